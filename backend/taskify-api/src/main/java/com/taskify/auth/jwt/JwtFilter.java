@@ -1,5 +1,7 @@
 package com.taskify.auth.jwt;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,14 +13,35 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
+    private static final String TIMER = "taskify.jwt.filter";
+
     private final JwtService jwtService;
 
-    public JwtFilter(JwtService jwtService) {
+    // Se mide sólo la autenticación, no el resto de la cadena (eso ya es http.server.requests)
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+    private final Timer anonymousTimer;
+
+    public JwtFilter(JwtService jwtService, MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
+        this.authenticatedTimer = timer(meterRegistry, "authenticated");
+        this.rejectedTimer = timer(meterRegistry, "rejected");
+        this.anonymousTimer = timer(meterRegistry, "anonymous");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(TIMER)
+                .description("Tiempo de autenticación JWT por petición")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
@@ -33,23 +56,27 @@ public class JwtFilter extends OncePerRequestFilter {
             FilterChain filterChain)
             throws ServletException, IOException {
 
+        long start = System.nanoTime();
         String authHeader = request.getHeader("Authorization");
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
 
             String token = authHeader.substring(7);
 
-            if (jwtService.isTokenValid(token)) {
-                String userId = jwtService.extractUserId(token);
-
+            Optional<String> verified = jwtService.verify(token);
+            verified.ifPresent(userId -> {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userId,
                         null,
-                        new java.util.ArrayList<>());
+                        Collections.emptyList());
 
                 SecurityContextHolder.getContext().setAuthentication(authToken);
                 request.setAttribute("userId", userId);
-            }
+            });
+            (verified.isPresent() ? authenticatedTimer : rejectedTimer).record(System.nanoTime() - start,
+                    TimeUnit.NANOSECONDS);
+        } else {
+            anonymousTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
@@ -1,19 +1,55 @@
 package com.taskify.auth.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 @Service
 public class JwtService {
 
-    private final Key SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final Key SECRET_KEY;
     private final long EXPIRATION_MS = 900000; // 15 minutos
 
+    // JwtParser es inmutable y thread-safe, se construye una sola vez
+    private final JwtParser parser;
+
+    private final VerifiedTokenCache verifiedTokens;
+
+    // HS256 exige una clave de al menos 256 bits
+    static final int MIN_SECRET_BYTES = 32;
+
+    // Sin jwt.secret se genera una clave aleatoria: los tokens solo valen en esta instancia
+    public JwtService(@Value("${jwt.secret:}") String secret,
+            @Value("${jwt.cache.max-size:10000}") int cacheMaxSize) {
+        this.SECRET_KEY = secret == null || secret.isBlank()
+                ? Keys.secretKeyFor(SignatureAlgorithm.HS256)
+                : Keys.hmacShaKeyFor(validSecret(secret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(SECRET_KEY)
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(cacheMaxSize);
+    }
+
+    private static byte[] validSecret(String secret) {
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("jwt.secret (SECRET_KEY) must be at least " + MIN_SECRET_BYTES
+                    + " bytes for HS256, got " + bytes.length
+                    + ". Set a longer SECRET_KEY or leave it empty to use a random per-instance key.");
+        }
+        return bytes;
+    }
+
     public String generateToken(String userId) {
         return Jwts.builder()
                 .setSubject(userId)
@@ -24,20 +60,39 @@ public class JwtService {
     }
 
     public String extractUserId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
-    public boolean isTokenValid(String token) {
+    /**
+     * Verifica el token una sola vez y devuelve su subject. Los tokens ya
+     * verificados se sirven desde caché hasta su expiración.
+     */
+    public Optional<String> verify(String token) {
+        long now = System.currentTimeMillis();
+
+        String cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            extractUserId(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            String subject = claims.getSubject();
+            if (subject == null) {
+                return Optional.empty();
+            }
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(token, subject, claims.getExpiration().getTime(), now);
+            }
+            return Optional.of(subject);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
+
+    public boolean isTokenValid(String token) {
+        return verify(token).isPresent();
+    }
 }
@@ -0,0 +1,80 @@
+package com.taskify.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caché acotada de tokens ya verificados. Las claves son el SHA-256 del token,
+ * de modo que no se retienen bearer tokens en memoria, y cada entrada caduca
+ * con el {@code exp} del propio token.
+ */
+class VerifiedTokenCache {
+
+    private record Entry(String subject, long expiresAtMillis) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    String get(String token, long nowMillis) {
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= nowMillis) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.subject();
+    }
+
+    void put(String token, String subject, long expiresAtMillis, long nowMillis) {
+        if (maxSize <= 0 || expiresAtMillis <= nowMillis) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            evict(nowMillis);
+        }
+        entries.put(digest(token), new Entry(subject, expiresAtMillis));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long nowMillis) {
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= nowMillis);
+
+        // Si siguen sin caducar, se libera un 10% arbitrario para no recorrer el mapa en cada put
+        int toRemove = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -19,9 +21,19 @@ public class RefreshToken {
     @Id
     private String id;
 
+    // Valor en claro que se entrega al cliente; nunca se persiste
+    @Transient
     private String token;
 
+    // SHA-256 del token: la búsqueda es por índice y la base de datos no guarda tokens usables
+    @Indexed(unique = true, sparse = true)
+    private String tokenHash;
+
+    // Un único refresh token vigente por usuario
+    @Indexed(unique = true)
     private String userId;
 
+    // Índice TTL: Mongo borra el documento cuando se alcanza expiryDate
+    @Indexed(expireAfter = "0s")
     private Instant expiryDate;
 }
@@ -1,15 +1,17 @@
 package com.taskify.auth.repository;
 
 import com.taskify.auth.model.RefreshToken;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface RefreshTokenRepository extends MongoRepository<RefreshToken, String> {
+public interface RefreshTokenRepository extends ListCrudRepository<RefreshToken, String>,
+        ListPagingAndSortingRepository<RefreshToken, String>, RefreshTokenRepositoryCustom {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     void deleteByUserId(String userId);
 }
@@ -0,0 +1,12 @@
+package com.taskify.auth.repository;
+
+import com.taskify.auth.model.RefreshToken;
+
+public interface RefreshTokenRepositoryCustom {
+
+    /**
+     * Sustituye (o crea) el refresh token del usuario en una sola operación,
+     * sin el borrado previo que podía chocar con el índice único de userId.
+     */
+    RefreshToken replaceForUser(RefreshToken refreshToken);
+}
@@ -0,0 +1,29 @@
+package com.taskify.auth.repository;
+
+import com.taskify.auth.model.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+@RequiredArgsConstructor
+public class RefreshTokenRepositoryCustomImpl implements RefreshTokenRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public RefreshToken replaceForUser(RefreshToken refreshToken) {
+        Query query = Query.query(Criteria.where("userId").is(refreshToken.getUserId()));
+        RefreshToken replacement = RefreshToken.builder()
+                .tokenHash(refreshToken.getTokenHash())
+                .userId(refreshToken.getUserId())
+                .expiryDate(refreshToken.getExpiryDate())
+                .build();
+
+        RefreshToken saved = mongoTemplate.findAndReplace(query, replacement,
+                FindAndReplaceOptions.options().upsert().returnNew());
+        saved.setToken(refreshToken.getToken());
+        return saved;
+    }
+}
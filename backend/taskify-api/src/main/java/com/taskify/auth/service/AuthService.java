@@ -10,23 +10,21 @@ import com.taskify.user.model.User;
 import com.taskify.user.repository.UserRepository;
 import com.taskify.auth.jwt.JwtService;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "taskify.service", histogram = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
     private final RefreshTokenService refreshTokenService;
+    private final UserSecurityCache userSecurityCache;
 
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -36,10 +34,11 @@ public class AuthService {
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .build();
 
         userRepository.save(user);
+        userSecurityCache.evict(user.getId(), user.getEmail());
 
         String token = jwtService.generateToken(user.getEmail());
         RefreshToken refreshToken = refreshTokenService.createRefreshToken(user.getId());
@@ -50,21 +49,21 @@ public class AuthService {
                 .build();
     }
 
+    // Una sola consulta del usuario (ninguna si está en UserSecurityCache);
+    // BCrypt se ejecuta en el pool acotado de PasswordHashingService
     public AuthResponse login(AuthRequest request) {
-        try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            request.getEmail(),
-                            request.getPassword()));
-        } catch (AuthenticationException e) {
+        UserSecurityRecord user = userSecurityCache.findByEmail(request.getEmail()).orElse(null);
+
+        if (user == null) {
+            passwordHashingService.matchesDummy(request.getPassword());
+            throw new BadCredentialsException("Invalid credentials");
+        }
+        if (!passwordHashingService.matches(request.getPassword(), user.password())) {
             throw new BadCredentialsException("Invalid credentials");
         }
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        String token = jwtService.generateToken(user.getEmail());
-        RefreshToken refreshToken = refreshTokenService.createRefreshToken(user.getId());
+        String token = jwtService.generateToken(user.email());
+        RefreshToken refreshToken = refreshTokenService.createRefreshToken(user.id());
 
         return AuthResponse.builder()
                 .token(token)
@@ -75,10 +74,10 @@ public class AuthService {
     public AuthResponse refresh(String refreshTokenStr) {
         RefreshToken refreshToken = refreshTokenService.verifyRefreshToken(refreshTokenStr);
 
-        User user = userRepository.findById(refreshToken.getUserId())
+        UserSecurityRecord user = userSecurityCache.findById(refreshToken.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        String newAccessToken = jwtService.generateToken(user.getEmail());
+        String newAccessToken = jwtService.generateToken(user.email());
 
         return AuthResponse.builder()
                 .token(newAccessToken)
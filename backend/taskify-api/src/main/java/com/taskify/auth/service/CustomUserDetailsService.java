@@ -1,28 +1,26 @@
 package com.taskify.auth.service;
 
-import com.taskify.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserSecurityCache userSecurityCache;
 
+    // Se construye un UserDetails nuevo en cada llamada: ProviderManager borra sus credenciales
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        com.taskify.user.model.User user = userRepository.findByEmail(email)
+        UserSecurityRecord user = userSecurityCache.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                new ArrayList<>());
+        return new User(user.email(), user.password(), Collections.emptyList());
     }
 }
@@ -0,0 +1,64 @@
+package com.taskify.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.taskify.auth.model.RefreshToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Near-cache acotada de refresh tokens verificados, indexada por el hash del
+ * token. Cada entrada vive como mucho {@code ttl} (o hasta la expiración del
+ * token), que es el retraso máximo con el que esta instancia ve una revocación
+ * hecha en otra.
+ *
+ * Una carga que coincide en el tiempo con una invalidación no se queda en la
+ * caché: {@link #put} recibe el {@link #stamp} tomado antes de leer de Mongo y
+ * descarta la entrada si desde entonces se ha invalidado algún usuario.
+ */
+class RefreshTokenCache {
+
+    private final Cache<String, RefreshToken> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    RefreshTokenCache(int maxSize, Duration ttl) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .expireAfter(Expiry.creating((String tokenHash, RefreshToken token) -> {
+                    Duration untilExpiry = Duration.between(Instant.now(), token.getExpiryDate());
+                    return untilExpiry.isNegative() ? Duration.ZERO
+                            : untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
+                }))
+                .recordStats()
+                .build();
+    }
+
+    Cache<String, RefreshToken> entries() {
+        return entries;
+    }
+
+    long stamp() {
+        return invalidations.get();
+    }
+
+    RefreshToken get(String tokenHash) {
+        return entries.getIfPresent(tokenHash);
+    }
+
+    void put(String tokenHash, RefreshToken token, long stamp) {
+        entries.put(tokenHash, token);
+        // Si una invalidación ha pasado entre la lectura y aquí, la entrada puede estar revocada
+        if (invalidations.get() != stamp) {
+            entries.invalidate(tokenHash);
+        }
+    }
+
+    // Tras escribir en Mongo: así ninguna lectura anterior a la escritura queda en caché
+    void invalidateUser(String userId) {
+        invalidations.incrementAndGet();
+        entries.asMap().values().removeIf(token -> token.getUserId().equals(userId));
+    }
+}
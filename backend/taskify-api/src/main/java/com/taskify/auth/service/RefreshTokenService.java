@@ -3,40 +3,68 @@ package com.taskify.auth.service;
 import com.taskify.auth.model.RefreshToken;
 import com.taskify.auth.repository.RefreshTokenRepository;
 import com.taskify.exception.BadRequestException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenCache cache;
 
     private static final long REFRESH_TOKEN_DURATION_DAYS = 7;
 
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.refresh.cache.max-size:1000}") int cacheMaxSize,
+            @Value("${auth.refresh.cache.ttl:30s}") Duration cacheTtl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.cache = new RefreshTokenCache(cacheMaxSize, cacheTtl);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.entries(), "auth.refresh-tokens");
+    }
+
     public RefreshToken createRefreshToken(String userId) {
-        refreshTokenRepository.deleteByUserId(userId);
+        String token = UUID.randomUUID().toString();
 
         RefreshToken refreshToken = RefreshToken.builder()
-                .token(UUID.randomUUID().toString())
+                .token(token)
+                .tokenHash(hash(token))
                 .userId(userId)
                 .expiryDate(Instant.now().plusSeconds(REFRESH_TOKEN_DURATION_DAYS * 24 * 60 * 60))
                 .build();
 
-        return refreshTokenRepository.save(refreshToken);
+        RefreshToken saved = refreshTokenRepository.replaceForUser(refreshToken);
+        cache.invalidateUser(userId);
+        return saved;
     }
 
     public RefreshToken verifyRefreshToken(String token) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(token)
-                .orElseThrow(() -> new BadRequestException("Refresh token inválido"));
+        String tokenHash = hash(token);
+        long now = System.currentTimeMillis();
+        long stamp = cache.stamp();
 
-        if (refreshToken.getExpiryDate().isBefore(Instant.now())) {
-            refreshTokenRepository.delete(refreshToken);
-            throw new BadRequestException("Refresh token expirado");
+        RefreshToken refreshToken = cache.get(tokenHash);
+        if (refreshToken == null) {
+            refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                    .orElseThrow(() -> new BadRequestException("Refresh token inválido"));
+            // El índice TTL lo borra; hasta que pase el monitor de Mongo se rechaza aquí
+            if (refreshToken.getExpiryDate().isBefore(Instant.ofEpochMilli(now))) {
+                throw new BadRequestException("Refresh token expirado");
+            }
+            refreshToken.setToken(token);
+            cache.put(tokenHash, refreshToken, stamp);
         }
 
         return refreshToken;
@@ -45,5 +73,15 @@ public class RefreshTokenService {
     @Transactional
     public void deleteByUserId(String userId) {
         refreshTokenRepository.deleteByUserId(userId);
+        cache.invalidateUser(userId);
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,96 @@
+package com.taskify.auth.service;
+
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.taskify.user.model.User;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Invalida {@link UserSecurityCache} cuando otra instancia modifica o borra un
+ * usuario, escuchando el change stream de la colección {@code users}. Requiere
+ * un replica set o cluster; se activa con {@code auth.user-cache.change-stream=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.user-cache.change-stream", havingValue = "true")
+public class UserChangeStreamInvalidator implements SmartLifecycle {
+
+    private static final long RETRY_DELAY_MS = 5000;
+
+    private final MongoTemplate mongoTemplate;
+    private final UserSecurityCache userSecurityCache;
+
+    private volatile boolean running;
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+    private Thread worker;
+
+    public UserChangeStreamInvalidator(MongoTemplate mongoTemplate, UserSecurityCache userSecurityCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.userSecurityCache = userSecurityCache;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("user-cache-invalidator").start(this::watch);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        MongoChangeStreamCursor<?> current = cursor;
+        if (current != null) {
+            current.close();
+        }
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watch() {
+        while (running) {
+            try {
+                var stream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class))
+                        .watch(List.of(Aggregates.match(Filters.in("operationType", "update", "replace", "delete"))));
+                try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> opened = stream.cursor()) {
+                    cursor = opened;
+                    while (running) {
+                        ChangeStreamDocument<Document> change = opened.next();
+                        BsonValue id = change.getDocumentKey() == null ? null : change.getDocumentKey().get("_id");
+                        if (id != null) {
+                            userSecurityCache.evictById(id.isObjectId() ? id.asObjectId().getValue().toHexString()
+                                    : id.asString().getValue());
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                // Pueden haberse perdido eventos: se vacía la caché y se vuelve a abrir el stream
+                userSecurityCache.evictAll();
+                log.warn("User change stream interrupted, retrying in {} ms: {}", RETRY_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
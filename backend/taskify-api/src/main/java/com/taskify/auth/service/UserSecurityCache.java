@@ -0,0 +1,109 @@
+package com.taskify.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Caché acotada y con caducidad de los datos de seguridad de los usuarios,
+ * indexada por email (login, UserDetailsService) y por id (refresh).
+ *
+ * Se invalida explícitamente con {@link #evict} al registrar o cambiar la
+ * contraseña de un usuario y, entre instancias, desde
+ * {@link UserChangeStreamInvalidator}. Sin change stream la caducidad
+ * ({@code auth.user-cache.ttl}) acota cuánto tarda una instancia en ver un
+ * cambio hecho en otra. Los emails inexistentes no se cachean.
+ *
+ * Métricas: cache.gets{cache=user.security.by-email|by-id, result=hit|miss}.
+ */
+@Component
+public class UserSecurityCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserSecurityRecord> byEmail;
+    private final Cache<String, UserSecurityRecord> byId;
+
+    public UserSecurityCache(UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.user-cache.max-size:10000}") long maxSize,
+            @Value("${auth.user-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.byEmail = build(maxSize, ttl);
+        this.byId = build(maxSize, ttl);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "user.security.by-email");
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "user.security.by-id");
+    }
+
+    private static Cache<String, UserSecurityRecord> build(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserSecurityRecord> findByEmail(String email) {
+        UserSecurityRecord cached = byEmail.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UserSecurityRecord> loaded = userRepository.findByEmail(email).map(UserSecurityRecord::of);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    public Optional<UserSecurityRecord> findById(String id) {
+        UserSecurityRecord cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UserSecurityRecord> loaded = userRepository.findById(id).map(UserSecurityRecord::of);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * Descarta los datos cacheados de un usuario. Debe llamarse tras cualquier
+     * cambio de email o contraseña.
+     */
+    public void evict(String id, String email) {
+        if (id != null) {
+            byId.invalidate(id);
+        }
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+    }
+
+    // Los eventos de borrado del change stream sólo traen el _id
+    public void evictById(String id) {
+        UserSecurityRecord removed = byId.asMap().remove(id);
+        if (removed != null) {
+            byEmail.invalidate(removed.email());
+        } else {
+            byEmail.asMap().values().removeIf(record -> id.equals(record.id()));
+        }
+    }
+
+    public void evictAll() {
+        byId.invalidateAll();
+        byEmail.invalidateAll();
+    }
+
+    private void put(UserSecurityRecord record) {
+        byEmail.put(record.email(), record);
+        if (record.id() != null) {
+            byId.put(record.id(), record);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskify.auth.service;
+
+import com.taskify.user.model.User;
+
+/**
+ * Datos del usuario que necesita la autenticación. Es inmutable para poder
+ * compartirlo desde la caché; los {@code UserDetails} se construyen a partir de
+ * él en cada petición porque Spring Security borra sus credenciales tras autenticar.
+ */
+public record UserSecurityRecord(String id, String email, String password) {
+
+    public static UserSecurityRecord of(User user) {
+        return new UserSecurityRecord(user.getId(), user.getEmail(), user.getPassword());
+    }
+}
@@ -1,10 +1,76 @@
 package com.taskify.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Con el perfil inmemory no hay MappingContext de Mongo; los repositorios fijan las fechas
 @Configuration
+@Profile("!inmemory")
 @EnableMongoAuditing
 public class MongoConfig {
 
-}
\ No newline at end of file
+    /**
+     * Pool, timeouts y política por defecto del cliente ({@code mongo.*}). Cada
+     * opción sólo se aplica si se indica y entonces prevalece sobre la
+     * equivalente de la URI; sin valor se usa el de la URI o el del driver.
+     * Las excepciones por clase de operación están en {@link MongoOperationPolicy}.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoClientPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${mongo.pool.max-size:}") Integer maxSize,
+            @Value("${mongo.pool.min-size:}") Integer minSize,
+            @Value("${mongo.pool.max-connecting:}") Integer maxConnecting,
+            @Value("${mongo.pool.max-wait-time:}") Duration maxWaitTime,
+            @Value("${mongo.pool.max-idle-time:}") Duration maxIdleTime,
+            @Value("${mongo.connect-timeout:}") Duration connectTimeout,
+            @Value("${mongo.server-selection-timeout:}") Duration serverSelectionTimeout,
+            @Value("${mongo.read-preference:}") String readPreference,
+            @Value("${mongo.write-concern:}") String writeConcern) {
+        MongoPoolMetrics poolMetrics = new MongoPoolMetrics(meterRegistry);
+
+        return settings -> {
+            settings.applyToConnectionPoolSettings(pool -> {
+                if (maxSize != null) {
+                    pool.maxSize(maxSize);
+                }
+                if (minSize != null) {
+                    pool.minSize(minSize);
+                }
+                if (maxConnecting != null) {
+                    pool.maxConnecting(maxConnecting);
+                }
+                if (maxWaitTime != null) {
+                    pool.maxWaitTime(maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                if (maxIdleTime != null) {
+                    pool.maxConnectionIdleTime(maxIdleTime.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                pool.addConnectionPoolListener(poolMetrics);
+            });
+            if (connectTimeout != null) {
+                settings.applyToSocketSettings(socket -> socket
+                        .connectTimeout((int) connectTimeout.toMillis(), TimeUnit.MILLISECONDS));
+            }
+            if (serverSelectionTimeout != null) {
+                settings.applyToClusterSettings(cluster -> cluster
+                        .serverSelectionTimeout(serverSelectionTimeout.toMillis(), TimeUnit.MILLISECONDS));
+            }
+
+            if (MongoOperationPolicy.readPreference(readPreference) != null) {
+                settings.readPreference(MongoOperationPolicy.readPreference(readPreference));
+            }
+            if (MongoOperationPolicy.writeConcern(writeConcern) != null) {
+                settings.writeConcern(MongoOperationPolicy.writeConcern(writeConcern));
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskify.config;
+
+/**
+ * Clases de operación con política propia de read preference o write concern
+ * ({@link MongoOperationPolicy}). Lo que no pertenece a ninguna usa la
+ * política por defecto del cliente.
+ */
+public enum MongoOperationClass {
+
+    /**
+     * Búsqueda en Mongo ({@code MongoTaskSearchIndex}): tolera leer con algo de
+     * retraso respecto a la última escritura. Listados, tareas de hoy y
+     * estadísticas no entran: su ETag y {@code TaskReadCache} se basan en la
+     * versión, que se lee con la política del cliente, y una página leída con
+     * más retraso que la versión se serviría como actual hasta el siguiente
+     * cambio.
+     */
+    SEARCH,
+
+    /**
+     * Completar o descompletar una tarea: un cambio pequeño y repetible que
+     * admite un write concern más relajado.
+     */
+    TOGGLE
+}
@@ -0,0 +1,80 @@
+package com.taskify.config;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Read preference y write concern por clase de operación
+ * ({@code mongo.operations.*}). Un valor vacío no cambia nada: la operación
+ * usa el del cliente ({@code mongo.read-preference}, {@code mongo.write-concern}
+ * o los de la URI).
+ */
+@Component
+public class MongoOperationPolicy {
+
+    private final Map<MongoOperationClass, ReadPreference> readPreferences = new EnumMap<>(MongoOperationClass.class);
+    private final Map<MongoOperationClass, WriteConcern> writeConcerns = new EnumMap<>(MongoOperationClass.class);
+
+    public MongoOperationPolicy(
+            @Value("${mongo.operations.search.read-preference:}") String searchReadPreference,
+            @Value("${mongo.operations.toggle.write-concern:}") String toggleWriteConcern) {
+        ReadPreference search = readPreference(searchReadPreference);
+        if (search != null) {
+            readPreferences.put(MongoOperationClass.SEARCH, search);
+        }
+        WriteConcern toggle = writeConcern(toggleWriteConcern);
+        if (toggle != null) {
+            // El toggle devuelve la tarea actualizada (findAndModify): necesita respuesta del servidor
+            if (!toggle.isAcknowledged()) {
+                throw new IllegalArgumentException("mongo.operations.toggle.write-concern must be acknowledged");
+            }
+            writeConcerns.put(MongoOperationClass.TOGGLE, toggle);
+        }
+    }
+
+    /**
+     * Read preference de la clase, o null si usa la del cliente.
+     */
+    public ReadPreference readPreference(MongoOperationClass operation) {
+        return readPreferences.get(operation);
+    }
+
+    /**
+     * Write concern de la clase, o null si usa el del cliente.
+     */
+    public WriteConcern writeConcern(MongoOperationClass operation) {
+        return writeConcerns.get(operation);
+    }
+
+    public Query applyTo(Query query, MongoOperationClass operation) {
+        ReadPreference readPreference = readPreference(operation);
+        return readPreference == null ? query : query.withReadPreference(readPreference);
+    }
+
+    // primary, primaryPreferred, secondary, secondaryPreferred, nearest
+    static ReadPreference readPreference(String name) {
+        return name == null || name.isBlank() ? null : ReadPreference.valueOf(name.trim());
+    }
+
+    // Un número de nodos (1, 2...) o un nombre del driver: majority, w1, journaled, acknowledged...
+    static WriteConcern writeConcern(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String trimmed = name.trim();
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            return new WriteConcern(Integer.parseInt(trimmed));
+        }
+        WriteConcern writeConcern = WriteConcern.valueOf(trimmed);
+        if (writeConcern == null) {
+            throw new IllegalArgumentException("Unknown write concern '" + name + "'");
+        }
+        return writeConcern;
+    }
+}
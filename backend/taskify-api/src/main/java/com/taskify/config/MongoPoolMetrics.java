@@ -0,0 +1,53 @@
+package com.taskify.config;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Espera para obtener una conexión del pool: cuánto tarda cada checkout y
+ * cuántos fallan (timeout = se agotó {@code mongo.pool.max-wait-time}). Las
+ * conexiones en uso y la cola de espera ya las publica Spring Boot como
+ * mongodb.driver.pool.checkedout y mongodb.driver.pool.waitqueuesize.
+ *
+ * Métrica: taskify.mongo.pool.checkout{outcome=success|timeout|connection_error|pool_closed|unknown}.
+ */
+class MongoPoolMetrics implements ConnectionPoolListener {
+
+    private static final String TIMER = "taskify.mongo.pool.checkout";
+
+    private final Timer checkedOut;
+    private final Map<ConnectionCheckOutFailedEvent.Reason, Timer> failed =
+            new EnumMap<>(ConnectionCheckOutFailedEvent.Reason.class);
+
+    MongoPoolMetrics(MeterRegistry meterRegistry) {
+        this.checkedOut = timer(meterRegistry, "success");
+        for (ConnectionCheckOutFailedEvent.Reason reason : ConnectionCheckOutFailedEvent.Reason.values()) {
+            failed.put(reason, timer(meterRegistry, reason.name().toLowerCase()));
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(TIMER)
+                .description("Espera para obtener una conexión del pool de MongoDB")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        checkedOut.record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        failed.get(event.getReason()).record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+}
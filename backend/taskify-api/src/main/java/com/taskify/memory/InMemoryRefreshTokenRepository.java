@@ -0,0 +1,133 @@
+package com.taskify.memory;
+
+import com.taskify.auth.model.RefreshToken;
+import com.taskify.auth.repository.RefreshTokenRepository;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RefreshTokenRepository sin base de datos (perfil {@code inmemory}), con los
+ * índices únicos de tokenHash y userId. El valor en claro del token no se
+ * guarda, igual que en Mongo. No hay índice TTL: RefreshTokenService ya
+ * rechaza los tokens caducados y {@link #replaceForUser} los sustituye.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryRefreshTokenRepository extends InMemoryRepository<RefreshToken>
+        implements RefreshTokenRepository {
+
+    private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByTokenHash = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByUserId = new ConcurrentHashMap<>();
+
+    public InMemoryRefreshTokenRepository() {
+        super(RefreshToken.class);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return Optional.ofNullable(idsByTokenHash.get(tokenHash)).flatMap(this::get);
+    }
+
+    @Override
+    public synchronized void deleteByUserId(String userId) {
+        String id = idsByUserId.get(userId);
+        if (id != null) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public synchronized RefreshToken replaceForUser(RefreshToken refreshToken) {
+        RefreshToken replacement = RefreshToken.builder()
+                .id(idsByUserId.get(refreshToken.getUserId()))
+                .tokenHash(refreshToken.getTokenHash())
+                .userId(refreshToken.getUserId())
+                .expiryDate(refreshToken.getExpiryDate())
+                .build();
+        put(replacement);
+        replacement.setToken(refreshToken.getToken());
+        return replacement;
+    }
+
+    @Override
+    protected String idOf(RefreshToken token) {
+        return token.getId();
+    }
+
+    @Override
+    protected synchronized void put(RefreshToken token) {
+        checkUnique(idsByTokenHash, token.getTokenHash(), token.getId(), "tokenHash");
+        checkUnique(idsByUserId, token.getUserId(), token.getId(), "userId");
+        if (token.getId() == null) {
+            token.setId(new ObjectId().toHexString());
+        }
+
+        RefreshToken previous = tokens.put(token.getId(), copy(token));
+        if (previous != null) {
+            unindex(previous);
+        }
+        // Índice sparse: los tokens sin hash no cuentan
+        if (token.getTokenHash() != null) {
+            idsByTokenHash.put(token.getTokenHash(), token.getId());
+        }
+        idsByUserId.put(token.getUserId(), token.getId());
+    }
+
+    private static void checkUnique(Map<String, String> index, String key, String id, String field) {
+        String owner = key == null ? null : index.get(key);
+        if (owner != null && !owner.equals(id)) {
+            throw new DuplicateKeyException(
+                    "E11000 duplicate key error collection: refresh_tokens index: " + field + " dup key");
+        }
+    }
+
+    @Override
+    protected Optional<RefreshToken> get(String id) {
+        return Optional.ofNullable(tokens.get(id)).map(InMemoryRefreshTokenRepository::copy);
+    }
+
+    @Override
+    protected synchronized boolean remove(String id) {
+        RefreshToken removed = tokens.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        unindex(removed);
+        return true;
+    }
+
+    private void unindex(RefreshToken token) {
+        if (token.getTokenHash() != null) {
+            idsByTokenHash.remove(token.getTokenHash(), token.getId());
+        }
+        idsByUserId.remove(token.getUserId(), token.getId());
+    }
+
+    @Override
+    protected List<RefreshToken> all() {
+        List<RefreshToken> all = new ArrayList<>(tokens.values());
+        all.sort(Comparator.comparing(RefreshToken::getId));
+        all.replaceAll(InMemoryRefreshTokenRepository::copy);
+        return all;
+    }
+
+    // Sin el token en claro, que es @Transient
+    private static RefreshToken copy(RefreshToken token) {
+        return RefreshToken.builder()
+                .id(token.getId())
+                .tokenHash(token.getTokenHash())
+                .userId(token.getUserId())
+                .expiryDate(token.getExpiryDate())
+                .build();
+    }
+}
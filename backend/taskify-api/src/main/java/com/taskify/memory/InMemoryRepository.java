@@ -0,0 +1,178 @@
+package com.taskify.memory;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Operaciones de {@link ListCrudRepository} y {@link ListPagingAndSortingRepository}
+ * sobre un almacén en memoria: lo que los repositorios de la aplicación heredan.
+ * Las subclases guardan copias de las entidades y devuelven copias, como haría
+ * Mongo al leer documentos: modificar un objeto devuelto no cambia lo guardado.
+ *
+ * La ordenación sigue la de Mongo: null antes que cualquier valor y los enums
+ * por nombre (se guardan como texto).
+ */
+public abstract class InMemoryRepository<T>
+        implements ListCrudRepository<T, String>, ListPagingAndSortingRepository<T, String> {
+
+    private final Class<T> type;
+
+    protected InMemoryRepository(Class<T> type) {
+        this.type = type;
+    }
+
+    protected abstract String idOf(T entity);
+
+    /**
+     * Guarda una copia de la entidad, asignando antes id y fechas de auditoría
+     * a la propia instancia si le faltan.
+     */
+    protected abstract void put(T entity);
+
+    protected abstract Optional<T> get(String id);
+
+    protected abstract boolean remove(String id);
+
+    protected abstract List<T> all();
+
+    @Override
+    public <S extends T> S save(S entity) {
+        put(entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return get(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return get(id).isPresent();
+    }
+
+    @Override
+    public List<T> findAll() {
+        return all();
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        List<T> found = new ArrayList<>();
+        ids.forEach(id -> get(id).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public long count() {
+        return all().size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        remove(id);
+    }
+
+    @Override
+    public void delete(T entity) {
+        remove(idOf(entity));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::remove);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        all().forEach(this::delete);
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        List<T> entities = new ArrayList<>(all());
+        entities.sort(comparator(type, sort));
+        return entities;
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        return page(findAll(pageable.getSort()), pageable);
+    }
+
+    /**
+     * Página de una lista ya ordenada que contiene todos los resultados.
+     */
+    protected static <E> Page<E> page(List<E> sorted, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted, pageable, sorted.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(new ArrayList<>(sorted.subList(from, to)), pageable, sorted.size());
+    }
+
+    /**
+     * Comparador para un Sort sobre las propiedades de {@code type}. Las
+     * propiedades desconocidas no ordenan, como un campo ausente en Mongo.
+     */
+    protected static <E> Comparator<E> comparator(Class<E> type, Sort sort) {
+        Comparator<E> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            PropertyDescriptor property = BeanUtils.getPropertyDescriptor(type, order.getProperty());
+            if (property == null || property.getReadMethod() == null) {
+                continue;
+            }
+            Method getter = property.getReadMethod();
+            Comparator<E> byProperty = Comparator.comparing(entity -> read(getter, entity), InMemoryRepository::compareValues);
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    private static Object read(Method getter, Object entity) {
+        try {
+            return getter.invoke(entity);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read " + getter.getName(), e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static int compareValues(Object a, Object b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        if (a instanceof Enum<?> first && b instanceof Enum<?> second) {
+            return first.name().compareTo(second.name());
+        }
+        if (a instanceof Comparable comparable && a.getClass() == b.getClass()) {
+            return comparable.compareTo(b);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,562 @@
+package com.taskify.memory;
+
+import com.taskify.task.model.Priority;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskBulkResult;
+import com.taskify.task.repository.TaskBulkWrite;
+import com.taskify.task.repository.TaskCursor;
+import com.taskify.task.repository.TaskFields;
+import com.taskify.task.repository.TaskFilter;
+import com.taskify.task.repository.TaskRepository;
+import com.taskify.task.repository.TaskStats;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * TaskRepository sin base de datos (perfil {@code inmemory}). Las tareas se
+ * agrupan por usuario y cada grupo se protege con uno de {@link #STRIPES}
+ * cerrojos de lectura/escritura elegido por el hash del userId: usuarios
+ * distintos casi nunca compiten y un usuario lee en paralelo consigo mismo.
+ *
+ * Cada usuario mantiene los mismos índices que Task declara en Mongo, todos
+ * ordenados por (taskDate, _id): el general (uid_date_id_idx), por completed
+ * y por priority. Un filtro recorre el más pequeño de los que aplican,
+ * acotado al rango de fechas, y comprueba el resto tarea a tarea; el orden del
+ * índice es directamente el del keyset de {@link #findSlice}.
+ *
+ * Las tareas guardadas no se modifican nunca: una actualización sustituye la
+ * instancia, y las lecturas devuelven copias.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryTaskRepository extends InMemoryRepository<Task> implements TaskRepository {
+
+    static final int STRIPES = 64;
+
+    // Orden del keyset: en Mongo null ordena antes que cualquier fecha
+    static final Comparator<Task> DATE_ORDER = Comparator
+            .comparing(Task::getTaskDate, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(Task::getId);
+
+    // Mayor que cualquier fecha ISO y que cualquier ObjectId
+    private static final String MAX = "\uffff";
+
+    private final ReadWriteLock[] locks = new ReadWriteLock[STRIPES];
+    private final Map<String, UserTasks> users = new ConcurrentHashMap<>();
+    // Índice global por _id para findById y las operaciones sin userId
+    private final Map<String, Task> tasks = new ConcurrentHashMap<>();
+
+    public InMemoryTaskRepository() {
+        super(Task.class);
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    @Override
+    public Page<Task> findByUserIdAndTaskDate(String userId, String taskDate, Pageable pageable) {
+        List<Task> matched = read(userId, user -> new ArrayList<>(
+                user.byDate.subSet(probe(taskDate, ""), true, probe(taskDate, MAX), true)));
+        matched.sort(order(pageable.getSort()));
+        return page(matched, pageable).map(InMemoryTaskRepository::copy);
+    }
+
+    @Override
+    public List<Task> findCalendarCandidates(String userId, String from, String to) {
+        // Las que empiezan hasta el final del rango (o sin fecha): puntuales dentro del rango y recurrentes
+        return read(userId, user -> user.byDate.headSet(probe(to, MAX), true).stream()
+                .filter(task -> isRecurring(task) || (task.getTaskDate() != null && task.getTaskDate().compareTo(from) >= 0))
+                .map(InMemoryTaskRepository::copy)
+                .toList());
+    }
+
+    @Override
+    public Stream<Task> streamByUserIdOrderByTaskDateAscIdAsc(String userId) {
+        // Instantánea de las referencias: el recorrido no retiene el cerrojo
+        List<Task> snapshot = read(userId, user -> List.copyOf(user.byDate));
+        return snapshot.stream().map(InMemoryTaskRepository::copy);
+    }
+
+    @Override
+    public long deleteByIdAndUserId(String id, String userId) {
+        return write(userId, user -> {
+            Task current = user.byId.get(id);
+            if (current == null) {
+                return 0L;
+            }
+            unindex(user, current);
+            return 1L;
+        });
+    }
+
+    @Override
+    public Optional<Task> updateDetails(String id, String userId, Task changes) {
+        return modifyOwned(id, userId, details(changes));
+    }
+
+    @Override
+    public Optional<Task> updateCompleted(String id, String userId, boolean completed) {
+        return modifyOwned(id, userId, task -> task.setCompleted(completed));
+    }
+
+    @Override
+    public Optional<Task> addExcludedDate(String id, String userId, String date) {
+        return modifyOwned(id, userId, excluding(date));
+    }
+
+    @Override
+    public Slice<Task> findSlice(String userId, TaskFilter filter, TaskCursor after, int size, TaskFields fields) {
+        return read(userId, user -> {
+            NavigableSet<Task> candidates = candidates(user, filter);
+            if (after != null) {
+                candidates = candidates.tailSet(probe(after.taskDate(), after.id()), false);
+            }
+
+            List<Task> content = new ArrayList<>(size);
+            boolean hasNext = false;
+            for (Task task : candidates) {
+                if (!matches(task, filter)) {
+                    continue;
+                }
+                if (content.size() == size) {
+                    hasNext = true;
+                    break;
+                }
+                content.add(project(task, fields));
+            }
+            return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+        });
+    }
+
+    @Override
+    public Page<Task> findFiltered(String userId, TaskFilter filter, Pageable pageable, TaskFields fields) {
+        List<Task> matched = read(userId, user -> candidates(user, filter).stream()
+                .filter(task -> matches(task, filter))
+                .collect(Collectors.toCollection(ArrayList::new)));
+        matched.sort(order(pageable.getSort()));
+        return page(matched, pageable).map(task -> project(task, fields));
+    }
+
+    @Override
+    public long countFiltered(String userId, TaskFilter filter) {
+        return read(userId, user -> candidates(user, filter).stream()
+                .filter(task -> matches(task, filter))
+                .count());
+    }
+
+    @Override
+    public TaskStats stats(String userId, String today) {
+        return read(userId, user -> {
+            Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, (long) user.byPriority(priority).size());
+            }
+            long completed = user.byCompleted(true).size();
+            long pending = user.byCompleted(false).size();
+
+            long overdue = 0, dueToday = 0, upcoming = 0, unscheduled = 0, recurring = 0;
+            for (Task task : user.byDate) {
+                if (isRecurring(task)) {
+                    recurring++;
+                } else if (!task.isCompleted()) {
+                    String date = task.getTaskDate();
+                    if (date == null) {
+                        unscheduled++;
+                    } else {
+                        int cmp = date.compareTo(today);
+                        if (cmp < 0) {
+                            overdue++;
+                        } else if (cmp == 0) {
+                            dueToday++;
+                        } else {
+                            upcoming++;
+                        }
+                    }
+                }
+            }
+            return new TaskStats(completed + pending, completed, pending, byPriority,
+                    overdue, dueToday, upcoming, unscheduled, recurring);
+        });
+    }
+
+    @Override
+    public TaskBulkResult bulkWrite(List<TaskBulkWrite> writes) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, String> failures = new HashMap<>();
+        Set<Integer> notFound = new HashSet<>();
+
+        // Como el bulk write no ordenado de Mongo: un error no detiene las demás escrituras
+        for (int i = 0; i < writes.size(); i++) {
+            TaskBulkWrite write = writes.get(i);
+            int index = i;
+            boolean matched = write(write.userId(), user -> switch (write.kind()) {
+                case INSERT -> {
+                    String error = insert(user, write.task(), now);
+                    if (error != null) {
+                        failures.put(index, error);
+                    }
+                    yield true;
+                }
+                case UPDATE_DETAILS -> modify(user, write.id(), details(write.task()), now);
+                case SET_COMPLETED -> modify(user, write.id(), task -> task.setCompleted(write.completed()), now);
+                case ADD_EXCLUDED_DATE -> modify(user, write.id(), excluding(write.date()), now);
+                case DELETE -> {
+                    Task current = user.byId.get(write.id());
+                    if (current != null) {
+                        unindex(user, current);
+                    }
+                    yield current != null;
+                }
+            });
+            if (!matched) {
+                notFound.add(i);
+            }
+        }
+        return new TaskBulkResult(failures, notFound);
+    }
+
+    // ------------------------------------------------------------------
+    // CRUD de MongoRepository
+
+    @Override
+    protected String idOf(Task task) {
+        return task.getId();
+    }
+
+    @Override
+    protected void put(Task task) {
+        // Auditoría: sin MongoConfig, las fechas se fijan aquí
+        LocalDateTime now = LocalDateTime.now();
+        if (task.getId() == null) {
+            task.setId(new ObjectId().toHexString());
+        }
+        if (task.getCreatedAt() == null) {
+            task.setCreatedAt(now);
+        }
+        task.setUpdatedAt(now);
+
+        Task previous = tasks.get(task.getId());
+        if (previous != null && !Objects.equals(previous.getUserId(), task.getUserId())) {
+            remove(previous.getId());
+        }
+
+        Task stored = copy(task);
+        write(task.getUserId(), user -> {
+            Task current = user.byId.get(stored.getId());
+            if (current != null) {
+                unindex(user, current);
+            }
+            index(user, stored);
+            return null;
+        });
+    }
+
+    @Override
+    protected Optional<Task> get(String id) {
+        return Optional.ofNullable(tasks.get(id)).map(InMemoryTaskRepository::copy);
+    }
+
+    @Override
+    protected boolean remove(String id) {
+        Task task = tasks.get(id);
+        return task != null && deleteByIdAndUserId(id, task.getUserId()) > 0;
+    }
+
+    @Override
+    protected List<Task> all() {
+        List<Task> all = new ArrayList<>(tasks.values());
+        all.sort(Comparator.comparing(Task::getId));
+        all.replaceAll(InMemoryTaskRepository::copy);
+        return all;
+    }
+
+    @Override
+    public long count() {
+        return tasks.size();
+    }
+
+    // ------------------------------------------------------------------
+
+    private Optional<Task> modifyOwned(String id, String userId, Consumer<Task> change) {
+        return write(userId, user -> {
+            Task current = user.byId.get(id);
+            if (current == null) {
+                return Optional.empty();
+            }
+            return Optional.of(copy(replace(user, current, change, LocalDateTime.now())));
+        });
+    }
+
+    // Actualización de un bulk write: si la tarea no es del usuario no hay error, como un updateOne sin coincidencias
+    private boolean modify(UserTasks user, String id, Consumer<Task> change, LocalDateTime now) {
+        Task current = user.byId.get(id);
+        if (current != null) {
+            replace(user, current, change, now);
+        }
+        return current != null;
+    }
+
+    private String insert(UserTasks user, Task task, LocalDateTime now) {
+        if (task.getId() == null) {
+            task.setId(new ObjectId().toHexString());
+        } else if (tasks.containsKey(task.getId())) {
+            return "E11000 duplicate key error collection: tasks index: _id_ dup key: { _id: \"" + task.getId() + "\" }";
+        }
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        index(user, copy(task));
+        return null;
+    }
+
+    private Task replace(UserTasks user, Task current, Consumer<Task> change, LocalDateTime now) {
+        Task updated = copy(current);
+        change.accept(updated);
+        updated.setUpdatedAt(now);
+        unindex(user, current);
+        index(user, updated);
+        return updated;
+    }
+
+    private void index(UserTasks user, Task task) {
+        user.add(task);
+        tasks.put(task.getId(), task);
+    }
+
+    private void unindex(UserTasks user, Task task) {
+        user.remove(task);
+        tasks.remove(task.getId());
+    }
+
+    private static Consumer<Task> details(Task changes) {
+        return task -> {
+            task.setTitle(changes.getTitle());
+            task.setDescription(changes.getDescription());
+            task.setTaskDate(changes.getTaskDate());
+            task.setPriority(changes.getPriority());
+            task.setRepeatDays(copyOf(changes.getRepeatDays()));
+            task.setRepeatMask(changes.getRepeatMask());
+        };
+    }
+
+    // $addToSet
+    private static Consumer<Task> excluding(String date) {
+        return task -> {
+            List<String> excluded = task.getExcludedDates() == null ? new ArrayList<>() : task.getExcludedDates();
+            if (!excluded.contains(date)) {
+                excluded.add(date);
+            }
+            task.setExcludedDates(excluded);
+        };
+    }
+
+    /**
+     * Índice más pequeño entre los aplicables al filtro, acotado a su rango de
+     * fechas. Una tarea sin fecha nunca cumple un rango, como en Mongo.
+     */
+    private static NavigableSet<Task> candidates(UserTasks user, TaskFilter filter) {
+        NavigableSet<Task> index = user.byDate;
+        if (filter.getCompleted() != null) {
+            index = smallest(index, user.byCompleted(filter.getCompleted()));
+        }
+        if (filter.getPriority() != null) {
+            index = smallest(index, user.byPriority(filter.getPriority()));
+        }
+        if (filter.getDateFrom() != null || filter.getDateTo() != null) {
+            String from = filter.getDateFrom() == null ? "" : filter.getDateFrom();
+            String to = filter.getDateTo() == null ? MAX : filter.getDateTo();
+            if (from.compareTo(to) > 0) {
+                return new TreeSet<>(DATE_ORDER);
+            }
+            index = index.subSet(probe(from, ""), true, probe(to, MAX), true);
+        }
+        return index;
+    }
+
+    private static NavigableSet<Task> smallest(NavigableSet<Task> a, NavigableSet<Task> b) {
+        return b.size() < a.size() ? b : a;
+    }
+
+    // Mismas condiciones que TaskCriteria
+    static boolean matches(Task task, TaskFilter filter) {
+        if (filter.getCompleted() != null && task.isCompleted() != filter.getCompleted()) {
+            return false;
+        }
+        if (filter.getPriority() != null && task.getPriority() != filter.getPriority()) {
+            return false;
+        }
+        if (filter.getDateFrom() != null || filter.getDateTo() != null) {
+            String date = task.getTaskDate();
+            if (date == null
+                    || (filter.getDateFrom() != null && date.compareTo(filter.getDateFrom()) < 0)
+                    || (filter.getDateTo() != null && date.compareTo(filter.getDateTo()) > 0)) {
+                return false;
+            }
+        }
+        if (filter.getHasRecurrence() != null && isRecurring(task) != filter.getHasRecurrence()) {
+            return false;
+        }
+        String prefix = filter.getTitlePrefix();
+        return prefix == null || prefix.isEmpty() || (task.getTitle() != null && task.getTitle().startsWith(prefix));
+    }
+
+    private static boolean isRecurring(Task task) {
+        return task.getRepeatDays() != null && !task.getRepeatDays().isEmpty();
+    }
+
+    // Sin ordenación Mongo devuelve el orden natural, que con ObjectId es el de inserción
+    private static Comparator<Task> order(Sort sort) {
+        Comparator<Task> byId = Comparator.comparing(Task::getId);
+        return sort.isSorted() ? comparator(Task.class, sort).thenComparing(byId) : byId;
+    }
+
+    private static Task probe(String taskDate, String id) {
+        return Task.builder().taskDate(taskDate).id(id).build();
+    }
+
+    private <R> R read(String userId, Function<UserTasks, R> action) {
+        Lock lock = lock(userId).readLock();
+        lock.lock();
+        try {
+            return action.apply(users.getOrDefault(userId, UserTasks.EMPTY));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <R> R write(String userId, Function<UserTasks, R> action) {
+        Lock lock = lock(userId).writeLock();
+        lock.lock();
+        try {
+            UserTasks user = users.computeIfAbsent(userId, id -> new UserTasks());
+            try {
+                return action.apply(user);
+            } finally {
+                if (user.byId.isEmpty()) {
+                    users.remove(userId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReadWriteLock lock(String userId) {
+        return locks[Math.floorMod(Objects.hashCode(userId), STRIPES)];
+    }
+
+    // Lo que devolvería la proyección de Mongo: sólo el id y los campos pedidos
+    private static Task project(Task task, TaskFields fields) {
+        if (fields.names() == null) {
+            return copy(task);
+        }
+        Task projected = new Task();
+        projected.setId(task.getId());
+        projected.setTitle(fields.includes("title") ? task.getTitle() : null);
+        projected.setDescription(fields.includes("description") ? task.getDescription() : null);
+        projected.setTaskDate(fields.includes("taskDate") ? task.getTaskDate() : null);
+        projected.setCompleted(fields.includes("completed") && task.isCompleted());
+        projected.setPriority(fields.includes("priority") ? task.getPriority() : null);
+        projected.setRepeatDays(fields.includes("repeatDays") ? copyOf(task.getRepeatDays()) : null);
+        projected.setExcludedDates(fields.includes("excludedDates") ? copyOf(task.getExcludedDates()) : null);
+        projected.setCreatedAt(fields.includes("createdAt") ? task.getCreatedAt() : null);
+        projected.setUpdatedAt(fields.includes("updatedAt") ? task.getUpdatedAt() : null);
+        return projected;
+    }
+
+    static Task copy(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .userId(task.getUserId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .taskDate(task.getTaskDate())
+                .completed(task.isCompleted())
+                .priority(task.getPriority())
+                .repeatDays(copyOf(task.getRepeatDays()))
+                .repeatMask(task.getRepeatMask())
+                .excludedDates(copyOf(task.getExcludedDates()))
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values == null ? null : new ArrayList<>(values);
+    }
+
+    /**
+     * Tareas de un usuario e índices secundarios. Sólo se accede con el
+     * cerrojo de su franja.
+     */
+    private static final class UserTasks {
+
+        static final UserTasks EMPTY = new UserTasks();
+
+        final Map<String, Task> byId = new HashMap<>();
+        final NavigableSet<Task> byDate = new TreeSet<>(DATE_ORDER);
+        private final NavigableSet<Task> completed = new TreeSet<>(DATE_ORDER);
+        private final NavigableSet<Task> pending = new TreeSet<>(DATE_ORDER);
+        private final Map<Priority, NavigableSet<Task>> byPriority = new EnumMap<>(Priority.class);
+
+        UserTasks() {
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, new TreeSet<>(DATE_ORDER));
+            }
+        }
+
+        NavigableSet<Task> byCompleted(boolean value) {
+            return value ? completed : pending;
+        }
+
+        NavigableSet<Task> byPriority(Priority priority) {
+            return byPriority.get(priority);
+        }
+
+        void add(Task task) {
+            byId.put(task.getId(), task);
+            byDate.add(task);
+            byCompleted(task.isCompleted()).add(task);
+            if (task.getPriority() != null) {
+                byPriority.get(task.getPriority()).add(task);
+            }
+        }
+
+        void remove(Task task) {
+            byId.remove(task.getId());
+            byDate.remove(task);
+            byCompleted(task.isCompleted()).remove(task);
+            if (task.getPriority() != null) {
+                byPriority.get(task.getPriority()).remove(task);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskify.memory;
+
+import com.taskify.task.model.TaskVersion;
+import com.taskify.task.repository.TaskVersionRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TaskVersionRepository sin base de datos (perfil {@code inmemory}): un
+ * contador por usuario que se incrementa con un merge atómico.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryTaskVersionRepository extends InMemoryRepository<TaskVersion>
+        implements TaskVersionRepository {
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public InMemoryTaskVersionRepository() {
+        super(TaskVersion.class);
+    }
+
+    @Override
+    public long increment(String userId) {
+        return versions.merge(userId, 1L, Long::sum);
+    }
+
+    @Override
+    protected String idOf(TaskVersion version) {
+        return version.getUserId();
+    }
+
+    @Override
+    protected void put(TaskVersion version) {
+        versions.put(version.getUserId(), version.getVersion());
+    }
+
+    @Override
+    protected Optional<TaskVersion> get(String userId) {
+        Long version = versions.get(userId);
+        return version == null ? Optional.empty() : Optional.of(new TaskVersion(userId, version));
+    }
+
+    @Override
+    protected boolean remove(String userId) {
+        return versions.remove(userId) != null;
+    }
+
+    @Override
+    protected List<TaskVersion> all() {
+        return versions.entrySet().stream()
+                .map(entry -> new TaskVersion(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(TaskVersion::getUserId))
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskify.memory;
+
+import com.taskify.user.model.User;
+import com.taskify.user.repository.UserRepository;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserRepository sin base de datos (perfil {@code inmemory}), con el índice
+ * único de email. Las escrituras se serializan para comprobar la unicidad;
+ * las lecturas no bloquean.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryUserRepository extends InMemoryRepository<User> implements UserRepository {
+
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByEmail = new ConcurrentHashMap<>();
+
+    public InMemoryUserRepository() {
+        super(User.class);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(idsByEmail.get(email)).flatMap(this::get);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return idsByEmail.containsKey(email);
+    }
+
+    @Override
+    protected String idOf(User user) {
+        return user.getId();
+    }
+
+    @Override
+    protected synchronized void put(User user) {
+        String owner = idsByEmail.get(user.getEmail());
+        if (owner != null && !owner.equals(user.getId())) {
+            throw new DuplicateKeyException(
+                    "E11000 duplicate key error collection: users index: email dup key: { email: \"" + user.getEmail() + "\" }");
+        }
+        if (user.getId() == null) {
+            user.setId(new ObjectId().toHexString());
+        }
+        if (user.getCreatedAt() == null) {
+            user.setCreatedAt(LocalDateTime.now());
+        }
+
+        User previous = users.put(user.getId(), copy(user));
+        if (previous != null && !Objects.equals(previous.getEmail(), user.getEmail())) {
+            idsByEmail.remove(previous.getEmail());
+        }
+        idsByEmail.put(user.getEmail(), user.getId());
+    }
+
+    @Override
+    protected Optional<User> get(String id) {
+        return Optional.ofNullable(users.get(id)).map(InMemoryUserRepository::copy);
+    }
+
+    @Override
+    protected synchronized boolean remove(String id) {
+        User removed = users.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        idsByEmail.remove(removed.getEmail());
+        return true;
+    }
+
+    @Override
+    protected List<User> all() {
+        List<User> all = new ArrayList<>(users.values());
+        all.sort(Comparator.comparing(User::getId));
+        all.replaceAll(InMemoryUserRepository::copy);
+        return all;
+    }
+
+    private static User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .password(user.getPassword())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.taskify.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.exception.ApiError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Limita las peticiones por ruta con un {@link TokenBucket} por cliente. Va
+ * justo detrás de JwtFilter: las rutas autenticadas cuentan por usuario y
+ * /api/auth/** (anónimo, y donde corre BCrypt) por IP. Una petición rechazada
+ * recibe 429 con Retry-After sin llegar a los controladores, así que no
+ * consulta Mongo ni calcula hashes.
+ *
+ * Las reglas ({@code ratelimit.routes}) se evalúan en orden y se aplica la
+ * primera que coincide; las rutas sin regla no se limitan. Los cubos viven en
+ * una caché acotada y caducan tras un periodo sin uso, cuando ya estarían
+ * llenos de nuevo.
+ *
+ * Métricas: taskify.ratelimit.rejected{route}, cache.gets{cache=ratelimit.buckets}.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATHS = "/api/auth/";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<RateLimitRule> rules;
+    private final List<Counter> rejected;
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RateLimitFilter(ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ratelimit.enabled:true}") boolean enabled,
+            @Value("${ratelimit.routes:}") List<String> routes,
+            @Value("${ratelimit.max-clients:100000}") long maxClients) {
+        this(objectMapper, meterRegistry, enabled, routes, maxClients, System::nanoTime);
+    }
+
+    RateLimitFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry, boolean enabled,
+            List<String> routes, long maxClients, LongSupplier clock) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.rules = routes.stream()
+                .filter(route -> !route.isBlank())
+                .map(RateLimitRule::parse)
+                .toList();
+        this.rejected = rules.stream()
+                .map(rule -> Counter.builder("taskify.ratelimit.rejected")
+                        .description("Peticiones rechazadas con 429 por límite de la ruta")
+                        .tag("route", rule.toString())
+                        .register(meterRegistry))
+                .toList();
+        this.clock = clock;
+
+        Duration longestPeriod = rules.stream()
+                .map(RateLimitRule::period)
+                .max(Comparator.naturalOrder())
+                .orElse(Duration.ofMinutes(1));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(longestPeriod)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "ratelimit.buckets");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (int i = 0; i < rules.size(); i++) {
+            RateLimitRule rule = rules.get(i);
+            if (!rule.matches(request.getMethod(), path)) {
+                continue;
+            }
+
+            TokenBucket bucket = buckets.get(i + "|" + client(request, path),
+                    key -> new TokenBucket(rule.capacity(), rule.period().toNanos(), clock.getAsLong()));
+            long waitNanos = bucket.tryConsume(clock.getAsLong());
+            if (waitNanos > 0) {
+                rejected.get(i).increment();
+                reject(request, response, waitNanos);
+                return;
+            }
+            break;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String client(HttpServletRequest request, String path) {
+        if (!path.startsWith(AUTH_PATHS)) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos)
+            throws IOException {
+        // Retry-After va en segundos enteros: se redondea hacia arriba
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "Rate limit exceeded, retry in " + retryAfter + "s",
+                request.getRequestURI()));
+    }
+}
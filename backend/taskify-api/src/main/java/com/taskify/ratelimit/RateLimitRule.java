@@ -0,0 +1,48 @@
+package com.taskify.ratelimit;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+
+/**
+ * Límite de una ruta: {@code [MÉTODO ]patrón=peticiones/periodo}, por ejemplo
+ * {@code GET /api/tasks/today=20/10s}. Sin método la regla vale para todos.
+ */
+record RateLimitRule(String method, String pattern, int capacity, Duration period) {
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    static RateLimitRule parse(String spec) {
+        try {
+            String trimmed = spec.trim();
+            int equals = trimmed.lastIndexOf('=');
+            int slash = trimmed.indexOf('/', equals);
+            String route = trimmed.substring(0, equals).trim();
+            int space = route.indexOf(' ');
+
+            int capacity = Integer.parseInt(trimmed.substring(equals + 1, slash).trim());
+            Duration period = DurationStyle.detectAndParse(trimmed.substring(slash + 1).trim());
+            if (capacity <= 0 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("capacity and period must be positive");
+            }
+            return new RateLimitRule(
+                    space < 0 ? null : route.substring(0, space).toUpperCase(),
+                    space < 0 ? route : route.substring(space + 1).trim(),
+                    capacity,
+                    period);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid rate limit rule '" + spec
+                    + "', expected '[METHOD ]pattern=requests/period'", e);
+        }
+    }
+
+    boolean matches(String requestMethod, String path) {
+        return (method == null || method.equals(requestMethod)) && MATCHER.match(pattern, path);
+    }
+
+    @Override
+    public String toString() {
+        return (method == null ? "" : method + " ") + pattern;
+    }
+}
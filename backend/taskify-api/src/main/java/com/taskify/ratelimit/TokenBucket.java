@@ -0,0 +1,42 @@
+package com.taskify.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin cerrojos. En lugar de un contador de tokens y una marca de
+ * reposición (dos valores que habría que actualizar juntos) guarda un único
+ * instante: cuándo volverá a estar lleno el cubo. Cada petición lo adelanta un
+ * intervalo de reposición con un CAS; si queda más allá de la capacidad, la
+ * petición se rechaza sin consumir. Es equivalente a un token bucket de
+ * {@code capacity} tokens que repone uno cada {@code intervalNanos}.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, long periodNanos, long now) {
+        this.intervalNanos = Math.max(1, periodNanos / capacity);
+        this.capacityNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Consume un token si hay. Devuelve 0 si la petición pasa o los
+     * nanosegundos hasta que habrá un token disponible.
+     */
+    long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long excess = next - now - capacityNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -1,19 +1,52 @@
 package com.taskify.task.controller;
 
+import com.taskify.task.dto.BatchRequestDTO;
+import com.taskify.task.dto.BatchResultDTO;
+import com.taskify.task.dto.ImportResultDTO;
+import com.taskify.task.dto.PartialTaskDTO;
+import com.taskify.task.dto.TaskFilterDTO;
+import com.taskify.task.dto.TaskOccurrenceDTO;
 import com.taskify.task.dto.TaskRequestDTO;
 import com.taskify.task.dto.TaskResponseDTO;
+import com.taskify.task.dto.TaskSliceDTO;
 import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskFields;
+import com.taskify.task.repository.TaskStats;
+import com.taskify.task.service.TaskBatchService;
+import com.taskify.task.service.TaskExportService;
+import com.taskify.task.service.TaskImportService;
 import com.taskify.task.service.TaskService;
+import com.taskify.task.service.TaskVersionService;
+import com.taskify.task.stream.TaskEventBus;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.Principal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -22,38 +55,143 @@ import java.security.Principal;
 public class TaskController {
 
     private final TaskService service;
+    private final TaskBatchService batchService;
+    private final TaskVersionService versions;
+    private final TaskEventBus eventBus;
+    private final TaskExportService exportService;
+    private final TaskImportService importService;
 
+    // Las listas llevan como ETag la versión del usuario, leída antes de la consulta;
+    // con If-None-Match coincidente se responde 304 sin consultar las tareas
     @GetMapping
-    @Operation(summary = "Listar tareas", description = "Devuelve tareas con paginación, ordenación y filtros opcionales (completed, priority)")
-    public Page<Task> list(
+    @Operation(summary = "Listar tareas", description = "Devuelve tareas con paginación, ordenación y filtros opcionales (completed, priority, from, to, hasRecurrence, title). Admite If-None-Match")
+    public Page<Task> list(Principal principal, TaskFilterDTO filter, Pageable pageable, ServletWebRequest request) {
+        if (notModified(request, principal.getName(), null)) {
+            return null;
+        }
+        return service.list(principal.getName(), filter, pageable);
+    }
+
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Listar tareas por cursor", description = "Devuelve tareas ordenadas por fecha usando un cursor opaco (cursor vacío para la primera página), sin consulta de total salvo includeTotal=true. Admite If-None-Match")
+    public TaskSliceDTO<Task> listByCursor(
+            Principal principal,
+            TaskFilterDTO filter,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            ServletWebRequest request) {
+        if (notModified(request, principal.getName(), null)) {
+            return null;
+        }
+        return service.listSlice(principal.getName(), filter, cursor, size, includeTotal);
+    }
+
+    @GetMapping(params = "fields")
+    @Operation(summary = "Listar tareas con campos seleccionados", description = "Como el listado paginado, pero cada tarea sólo incluye el id y los campos de fields (separados por comas), que son los únicos que se leen de la base de datos. Admite If-None-Match")
+    public Page<PartialTaskDTO> listFields(Principal principal, TaskFilterDTO filter, @RequestParam String fields,
+            Pageable pageable, ServletWebRequest request) {
+        TaskFields projection = TaskFields.parse(fields);
+        if (notModified(request, principal.getName(), null)) {
+            return null;
+        }
+        return service.list(principal.getName(), filter, pageable, projection)
+                .map(task -> PartialTaskDTO.from(task, projection));
+    }
+
+    @GetMapping(params = { "cursor", "fields" })
+    @Operation(summary = "Listar tareas por cursor con campos seleccionados", description = "Como el listado por cursor, pero cada tarea sólo incluye el id y los campos de fields. Admite If-None-Match")
+    public TaskSliceDTO<PartialTaskDTO> listFieldsByCursor(
             Principal principal,
-            @RequestParam(required = false) Boolean completed,
-            @RequestParam(required = false) String priority,
-            Pageable pageable) {
-        return service.list(principal.getName(), completed, priority, pageable);
+            TaskFilterDTO filter,
+            @RequestParam String cursor,
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            ServletWebRequest request) {
+        TaskFields projection = TaskFields.parse(fields);
+        if (notModified(request, principal.getName(), null)) {
+            return null;
+        }
+        TaskSliceDTO<Task> slice = service.listSlice(principal.getName(), filter, cursor, size, includeTotal, projection);
+        return TaskSliceDTO.<PartialTaskDTO>builder()
+                .content(slice.getContent().stream().map(task -> PartialTaskDTO.from(task, projection)).toList())
+                .size(slice.getSize())
+                .hasNext(slice.isHasNext())
+                .nextCursor(slice.getNextCursor())
+                .totalElements(slice.getTotalElements())
+                .build();
     }
 
     @GetMapping("/today")
-    @Operation(summary = "Listar tareas de hoy", description = "Devuelve las tareas programadas para hoy con paginación")
-    public Page<Task> listToday(Principal principal, Pageable pageable) {
+    @Operation(summary = "Listar tareas de hoy", description = "Devuelve las tareas programadas para hoy con paginación. Admite If-None-Match")
+    public Page<Task> listToday(Principal principal, Pageable pageable, ServletWebRequest request) {
+        // La respuesta cambia también al cambiar el día, aunque no haya mutaciones
+        if (notModified(request, principal.getName(), LocalDate.now().toString())) {
+            return null;
+        }
         return service.listToday(principal.getName(), pageable);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Buscar tareas", description = "Busca en el título y la descripción de las tareas del usuario y devuelve las más relevantes primero. La última palabra también se busca como prefijo")
+    public List<TaskResponseDTO> search(Principal principal, @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size) {
+        return service.search(principal.getName(), q, size).stream()
+                .map(TaskResponseDTO::from)
+                .toList();
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Estadísticas de tareas", description = "Recuentos del usuario: total, completadas, pendientes, por prioridad y, de las pendientes no recurrentes, vencidas, de hoy, próximas y sin fecha. Admite If-None-Match")
+    public TaskStats stats(Principal principal, ServletWebRequest request) {
+        // Como en listToday, los grupos por fecha cambian con el día
+        if (notModified(request, principal.getName(), "stats-" + LocalDate.now())) {
+            return null;
+        }
+        return service.stats(principal.getName());
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream de cambios", description = "Server-Sent Events con los cambios de las tareas del usuario (eventos created, updated, deleted). Si el evento no trae la tarea, el cliente debe volver a leerla; si la conexión se cierra, debe reconectar y recargar la lista")
+    public SseEmitter stream(Principal principal) {
+        return eventBus.subscribe(principal.getName());
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar tareas", description = "Descarga todas las tareas del usuario en formato ndjson (por defecto) o csv. La respuesta se escribe a medida que se leen las tareas, sin paginar")
+    public ResponseEntity<StreamingResponseBody> export(Principal principal,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportService.Format exportFormat = TaskExportService.Format.parse(format);
+        String userId = principal.getName();
+
+        StreamingResponseBody body = out -> exportService.export(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.extension()).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "Calendario de tareas", description = "Devuelve las ocurrencias de las tareas (incluidas las recurrentes) entre dos fechas")
+    public List<TaskOccurrenceDTO> calendar(
+            Principal principal,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return service.calendar(principal.getName(), from, to).stream()
+                .map(occurrence -> TaskOccurrenceDTO.builder()
+                        .date(occurrence.date().toString())
+                        .task(TaskResponseDTO.from(occurrence.task()))
+                        .build())
+                .toList();
+    }
+
     @PostMapping
     @Operation(summary = "Crear tarea", description = "Crea una nueva tarea")
     public TaskResponseDTO create(@RequestBody @Valid TaskRequestDTO dto, Principal principal) {
         Task created = service.create(dto, principal.getName());
-        return TaskResponseDTO.builder()
-                .id(created.getId())
-                .title(created.getTitle())
-                .description(created.getDescription())
-                .taskDate(created.getTaskDate())
-                .completed(created.isCompleted())
-                .priority(created.getPriority())
-                .repeatDays(created.getRepeatDays())
-                .createdAt(created.getCreatedAt())
-                .updatedAt(created.getUpdatedAt())
-                .build();
+        return TaskResponseDTO.from(created);
     }
 
     @PutMapping("/{id}")
@@ -62,18 +200,7 @@ public class TaskController {
             Principal principal) {
 
         Task updated = service.update(id, dto, principal.getName());
-
-        return TaskResponseDTO.builder()
-                .id(updated.getId())
-                .title(updated.getTitle())
-                .description(updated.getDescription())
-                .taskDate(updated.getTaskDate())
-                .priority(updated.getPriority())
-                .completed(updated.isCompleted())
-                .repeatDays(updated.getRepeatDays())
-                .createdAt(updated.getCreatedAt())
-                .updatedAt(updated.getUpdatedAt())
-                .build();
+        return TaskResponseDTO.from(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -93,4 +220,46 @@ public class TaskController {
     public Task excludeDate(@PathVariable String id, @RequestParam String date, Principal principal) {
         return service.excludeDate(id, principal.getName(), date);
     }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Operaciones en lote", description = "Aplica una lista de operaciones (create, update, complete, exclude, delete) en una sola petición y devuelve el resultado de cada una")
+    public List<BatchResultDTO> batch(@RequestBody @Valid BatchRequestDTO request, Principal principal) {
+        return batchService.apply(request.getOperations(), principal.getName());
+    }
+
+    @PostMapping(path = "/import", consumes = "application/x-ndjson")
+    @Operation(summary = "Importar tareas", description = "Crea tareas a partir de un cuerpo NDJSON con una tarea (mismo formato que al crear) por línea. Las líneas inválidas se informan con su número sin detener la importación")
+    public ImportResultDTO importTasks(InputStream body, Principal principal) throws IOException {
+        return importService.importTasks(principal.getName(), body);
+    }
+
+    private boolean notModified(ServletWebRequest request, String userId, String qualifier) {
+        String etag = etag(userId, versions.current(userId), qualifier);
+
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            // Sin esto Spring Security añade no-store y el cliente no guarda la respuesta para revalidarla
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+            // La misma URL devuelve otra lista con otro token: la caché del navegador no debe mezclarlas
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+        return request.checkNotModified(etag);
+    }
+
+    /**
+     * ETag de las listas: usuario + versión (+ calificador). Las versiones de
+     * distintos usuarios coinciden a menudo; sin el usuario, otro que inicie
+     * sesión en el mismo navegador recibiría un 304 sobre la lista cacheada del
+     * anterior. Del usuario sólo va un resumen del SHA-256 de su id.
+     */
+    static String etag(String userId, long version, String qualifier) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(userId.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        String user = Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 9));
+        return "W/\"" + user + "-" + version + (qualifier == null ? "" : "-" + qualifier) + "\"";
+    }
 }
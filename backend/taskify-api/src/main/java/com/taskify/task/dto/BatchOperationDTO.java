@@ -0,0 +1,29 @@
+package com.taskify.task.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationDTO {
+
+    @NotNull
+    private BatchOperationType type;
+
+    // Requerido en todas las operaciones salvo CREATE
+    private String id;
+
+    // CREATE y UPDATE
+    private TaskRequestDTO task;
+
+    // COMPLETE
+    private Boolean completed;
+
+    // EXCLUDE
+    private String date;
+}
@@ -0,0 +1,5 @@
+package com.taskify.task.dto;
+
+public enum BatchOperationType {
+    CREATE, UPDATE, COMPLETE, EXCLUDE, DELETE
+}
@@ -0,0 +1,21 @@
+package com.taskify.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestDTO {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<BatchOperationDTO> operations;
+}
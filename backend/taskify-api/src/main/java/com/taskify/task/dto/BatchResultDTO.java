@@ -0,0 +1,19 @@
+package com.taskify.task.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BatchResultDTO {
+
+    public enum Status {
+        OK, INVALID, NOT_FOUND, FAILED
+    }
+
+    private int index;
+    private BatchOperationType type;
+    private String id;
+    private Status status;
+    private String message;
+}
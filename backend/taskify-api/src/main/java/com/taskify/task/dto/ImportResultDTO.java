@@ -0,0 +1,25 @@
+package com.taskify.task.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ImportResultDTO {
+
+    @Data
+    @Builder
+    public static class LineError {
+        private long line;
+        private String message;
+    }
+
+    private long lines;
+    private long imported;
+    private long failed;
+    // Sólo los primeros errores (tasks.import.max-errors); failed los cuenta todos
+    private List<LineError> errors;
+    private boolean errorsTruncated;
+}
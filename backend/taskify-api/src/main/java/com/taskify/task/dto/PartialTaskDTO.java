@@ -0,0 +1,63 @@
+package com.taskify.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskify.task.model.Priority;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskFields;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Tarea reducida a los campos pedidos con fields=. Los no pedidos quedan a
+ * null y no se serializan.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartialTaskDTO {
+    private String id;
+    private String title;
+    private String description;
+    private String taskDate;
+    private Boolean completed;
+    private Priority priority;
+    private List<String> repeatDays;
+    private List<String> excludedDates;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static PartialTaskDTO from(Task task, TaskFields fields) {
+        PartialTaskDTOBuilder builder = PartialTaskDTO.builder().id(task.getId());
+        if (fields.includes("title")) {
+            builder.title(task.getTitle());
+        }
+        if (fields.includes("description")) {
+            builder.description(task.getDescription());
+        }
+        if (fields.includes("taskDate")) {
+            builder.taskDate(task.getTaskDate());
+        }
+        if (fields.includes("completed")) {
+            builder.completed(task.isCompleted());
+        }
+        if (fields.includes("priority")) {
+            builder.priority(task.getPriority());
+        }
+        if (fields.includes("repeatDays")) {
+            builder.repeatDays(task.getRepeatDays());
+        }
+        if (fields.includes("excludedDates")) {
+            builder.excludedDates(task.getExcludedDates());
+        }
+        if (fields.includes("createdAt")) {
+            builder.createdAt(task.getCreatedAt());
+        }
+        if (fields.includes("updatedAt")) {
+            builder.updatedAt(task.getUpdatedAt());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskify.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskEventDTO {
+    private String type;
+    private String id;
+    private TaskResponseDTO task;
+}
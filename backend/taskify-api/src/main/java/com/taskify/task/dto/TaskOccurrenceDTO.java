@@ -0,0 +1,11 @@
+package com.taskify.task.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TaskOccurrenceDTO {
+    private String date;
+    private TaskResponseDTO task;
+}
@@ -1,6 +1,7 @@
 package com.taskify.task.dto;
 
 import com.taskify.task.model.Priority;
+import com.taskify.task.model.Task;
 import lombok.Builder;
 import lombok.Data;
 
@@ -20,4 +21,19 @@ public class TaskResponseDTO {
     private List<String> excludedDates;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    public static TaskResponseDTO from(Task task) {
+        return TaskResponseDTO.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .taskDate(task.getTaskDate())
+                .completed(task.isCompleted())
+                .priority(task.getPriority())
+                .repeatDays(task.getRepeatDays())
+                .excludedDates(task.getExcludedDates())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+}
@@ -1,12 +1,12 @@
 package com.taskify.task.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -18,8 +18,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Document(collection = "tasks")
+// Uno por cada combinación de igualdades del filtro, seguidas del orden del listado
+// (taskDate, _id): sin SORT en memoria. Cualquier consulta por userId usa su prefijo
 @CompoundIndexes({
-        @CompoundIndex(name = "uid_date_idx", def = "{'userId': 1, 'taskDate': 1}")
+        @CompoundIndex(name = "uid_date_id_idx", def = "{'userId': 1, 'taskDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "uid_completed_date_idx", def = "{'userId': 1, 'completed': 1, 'taskDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "uid_priority_date_idx", def = "{'userId': 1, 'priority': 1, 'taskDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "uid_completed_priority_date_id_idx",
+                def = "{'userId': 1, 'completed': 1, 'priority': 1, 'taskDate': 1, '_id': 1}")
+        // El índice de texto de la búsqueda lo crea MongoTaskSearchIndex, que fija su idioma
 })
 @Getter
 @Setter
@@ -31,7 +38,6 @@ public class Task {
     @Id
     private String id;
 
-    @Indexed
     private String userId;
 
     @NotBlank
@@ -53,6 +59,10 @@ public class Task {
     @Builder.Default
     private List<String> repeatDays = new ArrayList<>();
 
+    // Máscara precalculada de repeatDays (bit 0 = lunes ... bit 6 = domingo)
+    @JsonIgnore
+    private int repeatMask;
+
     @Builder.Default
     private List<String> excludedDates = new ArrayList<>();
 
@@ -0,0 +1,26 @@
+package com.taskify.task.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Contador de cambios de las tareas de un usuario. Cada mutación lo incrementa
+ * y las listas lo usan como ETag.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "task_versions")
+public class TaskVersion {
+
+    // El _id es el userId: la lectura es siempre por clave primaria
+    @Id
+    private String userId;
+
+    private long version;
+}
@@ -0,0 +1,62 @@
+package com.taskify.task.recurrence;
+
+import com.taskify.task.model.Task;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Expande tareas recurrentes sobre una ventana de fechas [from, to].
+ * La fecha de la tarea actúa como inicio de la serie; sin fecha, la serie
+ * no tiene inicio. Las fechas excluidas se eliminan del resultado.
+ */
+@Component
+public class RecurrenceEngine {
+
+    public List<TaskOccurrence> expand(List<Task> tasks, LocalDate from, LocalDate to) {
+        List<TaskOccurrence> occurrences = new ArrayList<>();
+
+        for (Task task : tasks) {
+            LocalDate start = parseDate(task.getTaskDate());
+            int mask = task.getRepeatMask() != 0 ? task.getRepeatMask() : WeekdayMask.of(task.getRepeatDays());
+            Set<String> excluded = task.getExcludedDates() == null || task.getExcludedDates().isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(task.getExcludedDates());
+
+            if (mask == 0) {
+                if (start != null && !start.isBefore(from) && !start.isAfter(to)
+                        && !excluded.contains(start.toString())) {
+                    occurrences.add(new TaskOccurrence(start, task));
+                }
+                continue;
+            }
+
+            LocalDate day = start != null && start.isAfter(from) ? start : from;
+            for (; !day.isAfter(to); day = day.plusDays(1)) {
+                if (WeekdayMask.contains(mask, day.getDayOfWeek()) && !excluded.contains(day.toString())) {
+                    occurrences.add(new TaskOccurrence(day, task));
+                }
+            }
+        }
+
+        occurrences.sort(Comparator.comparing(TaskOccurrence::date));
+        return occurrences;
+    }
+
+    private LocalDate parseDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskify.task.recurrence;
+
+import com.taskify.task.model.Task;
+
+import java.time.LocalDate;
+
+public record TaskOccurrence(LocalDate date, Task task) {
+}
@@ -0,0 +1,80 @@
+package com.taskify.task.recurrence;
+
+import java.text.Normalizer;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Representa los días de repetición de una tarea como una máscara de 7 bits
+ * (bit 0 = lunes ... bit 6 = domingo).
+ */
+public final class WeekdayMask {
+
+    private static final Map<String, DayOfWeek> SPANISH_NAMES = Map.of(
+            "LUNES", DayOfWeek.MONDAY,
+            "MARTES", DayOfWeek.TUESDAY,
+            "MIERCOLES", DayOfWeek.WEDNESDAY,
+            "JUEVES", DayOfWeek.THURSDAY,
+            "VIERNES", DayOfWeek.FRIDAY,
+            "SABADO", DayOfWeek.SATURDAY,
+            "DOMINGO", DayOfWeek.SUNDAY);
+
+    private WeekdayMask() {
+    }
+
+    public static int of(List<String> repeatDays) {
+        int mask = 0;
+        if (repeatDays == null) {
+            return mask;
+        }
+        for (String day : repeatDays) {
+            DayOfWeek dayOfWeek = parse(day);
+            if (dayOfWeek != null) {
+                mask |= bit(dayOfWeek);
+            }
+        }
+        return mask;
+    }
+
+    public static boolean contains(int mask, DayOfWeek dayOfWeek) {
+        return (mask & bit(dayOfWeek)) != 0;
+    }
+
+    private static int bit(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+
+    /**
+     * Acepta nombres ISO (MONDAY, MON), nombres en español (LUNES, MIÉRCOLES)
+     * y el número ISO del día (1 = lunes ... 7 = domingo).
+     */
+    static DayOfWeek parse(String day) {
+        if (day == null || day.isBlank()) {
+            return null;
+        }
+
+        String normalized = Normalizer.normalize(day.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toUpperCase(Locale.ROOT);
+
+        if (normalized.length() == 1 && Character.isDigit(normalized.charAt(0))) {
+            int value = normalized.charAt(0) - '0';
+            return value >= 1 && value <= 7 ? DayOfWeek.of(value) : null;
+        }
+
+        DayOfWeek spanish = SPANISH_NAMES.get(normalized);
+        if (spanish != null) {
+            return spanish;
+        }
+
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (dayOfWeek.name().equals(normalized)
+                    || (normalized.length() == 3 && dayOfWeek.name().startsWith(normalized))) {
+                return dayOfWeek;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskify.task.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resultado de un bulk write, por posición de cada escritura en la lista:
+ * errores del servidor y escrituras sobre tareas existentes que no
+ * encontraron ninguna tarea del usuario. El resto se aplicó.
+ */
+public record TaskBulkResult(Map<Integer, String> failures, Set<Integer> notFound) {
+
+    public static TaskBulkResult empty() {
+        return new TaskBulkResult(Map.of(), Set.of());
+    }
+
+    public boolean applied(int index) {
+        return !failures.containsKey(index) && !notFound.contains(index);
+    }
+}
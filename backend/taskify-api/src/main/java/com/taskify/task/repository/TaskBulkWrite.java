@@ -0,0 +1,34 @@
+package com.taskify.task.repository;
+
+import com.taskify.task.model.Task;
+
+/**
+ * Escritura individual dentro de un bulk write. Las operaciones sobre tareas
+ * existentes se filtran siempre por {_id, userId}.
+ */
+public record TaskBulkWrite(Kind kind, String id, String userId, Task task, boolean completed, String date) {
+
+    public enum Kind {
+        INSERT, UPDATE_DETAILS, SET_COMPLETED, ADD_EXCLUDED_DATE, DELETE
+    }
+
+    public static TaskBulkWrite insert(Task task) {
+        return new TaskBulkWrite(Kind.INSERT, task.getId(), task.getUserId(), task, false, null);
+    }
+
+    public static TaskBulkWrite updateDetails(String id, String userId, Task changes) {
+        return new TaskBulkWrite(Kind.UPDATE_DETAILS, id, userId, changes, false, null);
+    }
+
+    public static TaskBulkWrite setCompleted(String id, String userId, boolean completed) {
+        return new TaskBulkWrite(Kind.SET_COMPLETED, id, userId, null, completed, null);
+    }
+
+    public static TaskBulkWrite addExcludedDate(String id, String userId, String date) {
+        return new TaskBulkWrite(Kind.ADD_EXCLUDED_DATE, id, userId, null, false, date);
+    }
+
+    public static TaskBulkWrite delete(String id, String userId) {
+        return new TaskBulkWrite(Kind.DELETE, id, userId, null, false, null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskify.task.repository;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.regex.Pattern;
+
+/**
+ * Traduce un {@link TaskFilter} a Criteria. El orden de los campos sigue el de
+ * los índices compuestos declarados en Task (userId primero, igualdades antes
+ * que rangos) para que cada combinación se resuelva con un IXSCAN. Recurrencia
+ * y prefijo de título se filtran sobre las entradas de ese índice.
+ */
+public final class TaskCriteria {
+
+    private TaskCriteria() {
+    }
+
+    public static Criteria of(String userId, TaskFilter filter) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+
+        if (filter.getCompleted() != null) {
+            criteria.and("completed").is(filter.getCompleted());
+        }
+        if (filter.getPriority() != null) {
+            criteria.and("priority").is(filter.getPriority());
+        }
+        if (filter.getDateFrom() != null || filter.getDateTo() != null) {
+            Criteria date = criteria.and("taskDate");
+            if (filter.getDateFrom() != null) {
+                date.gte(filter.getDateFrom());
+            }
+            if (filter.getDateTo() != null) {
+                date.lte(filter.getDateTo());
+            }
+        }
+        if (filter.getHasRecurrence() != null) {
+            criteria.and("repeatDays.0").exists(filter.getHasRecurrence());
+        }
+        if (filter.getTitlePrefix() != null && !filter.getTitlePrefix().isEmpty()) {
+            // Regex anclada y sensible a mayúsculas. Se evalúa sobre las tareas que acota el
+            // índice: uno por título obligaría a ordenar en memoria por (taskDate, _id)
+            criteria.and("title").regex("^" + Pattern.quote(filter.getTitlePrefix()));
+        }
+
+        return criteria;
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskify.task.repository;
+
+import com.taskify.exception.BadRequestException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posición de continuación de un listado por keyset: último (taskDate, _id)
+ * devuelto. Se expone a los clientes como un token opaco en Base64 URL-safe.
+ */
+public record TaskCursor(String taskDate, String id) {
+
+    private static final String NULL_DATE = "~";
+
+    public String encode() {
+        String raw = (taskDate == null ? NULL_DATE : taskDate) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException();
+            }
+            String date = raw.substring(0, separator);
+            String id = raw.substring(separator + 1);
+            // Se compara con _id: un id que no es ObjectId no tiene posición en el orden
+            if (!ObjectId.isValid(id)) {
+                throw new IllegalArgumentException();
+            }
+            return new TaskCursor(NULL_DATE.equals(date) ? null : date, id);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
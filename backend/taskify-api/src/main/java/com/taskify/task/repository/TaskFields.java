@@ -0,0 +1,63 @@
+package com.taskify.task.repository;
+
+import com.taskify.exception.BadRequestException;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Campos de la tarea que pide el cliente (fields=id,title,...). Se traducen a
+ * una proyección de Mongo: los demás no se leen ni se decodifican. El id se
+ * devuelve siempre; {@link #ALL} no proyecta.
+ */
+public record TaskFields(Set<String> names) {
+
+    public static final TaskFields ALL = new TaskFields(null);
+
+    static final Set<String> AVAILABLE = Set.of(
+            "id", "title", "description", "taskDate", "completed", "priority",
+            "repeatDays", "excludedDates", "createdAt", "updatedAt");
+
+    public static TaskFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(TreeSet::new));
+        for (String name : names) {
+            if (!AVAILABLE.contains(name)) {
+                throw new BadRequestException("Unknown field: " + name);
+            }
+        }
+        names.add("id");
+        return new TaskFields(Set.copyOf(names));
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    /**
+     * Añade campos que la consulta necesita aunque el cliente no los haya
+     * pedido, como el taskDate del cursor.
+     */
+    public TaskFields with(String... required) {
+        if (names == null) {
+            return this;
+        }
+        return new TaskFields(Stream.concat(names.stream(), Arrays.stream(required))
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    void applyTo(Query query) {
+        if (names != null) {
+            names.forEach(query.fields()::include);
+        }
+    }
+}
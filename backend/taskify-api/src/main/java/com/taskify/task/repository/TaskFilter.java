@@ -0,0 +1,23 @@
+package com.taskify.task.repository;
+
+import com.taskify.task.model.Priority;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Filtros opcionales sobre las tareas de un usuario. Un campo nulo no filtra.
+ * Las fechas usan el formato ISO de taskDate (yyyy-MM-dd), ambos extremos incluidos.
+ */
+@Value
+@Builder
+public class TaskFilter {
+
+    public static final TaskFilter NONE = TaskFilter.builder().build();
+
+    Boolean completed;
+    Priority priority;
+    String dateFrom;
+    String dateTo;
+    Boolean hasRecurrence;
+    String titlePrefix;
+}
@@ -1,23 +1,28 @@
 package com.taskify.task.repository;
 
-import com.taskify.task.model.Priority;
 import com.taskify.task.model.Task;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
-@Repository
-public interface TaskRepository extends MongoRepository<Task, String> {
-
-    Page<Task> findByUserId(String userId, Pageable pageable);
+import java.util.List;
+import java.util.stream.Stream;
 
-    Page<Task> findByUserIdAndCompleted(String userId, boolean completed, Pageable pageable);
+@Repository
+public interface TaskRepository extends ListCrudRepository<Task, String>,
+        ListPagingAndSortingRepository<Task, String>, TaskRepositoryCustom {
 
-    Page<Task> findByUserIdAndPriority(String userId, Priority priority, Pageable pageable);
+    // Cada rama del $or usa uid_date_id_idx: tareas puntuales dentro del rango y
+    // tareas recurrentes que empiezan antes del final del rango (o sin fecha)
+    @Query("{ 'userId': ?0, '$or': [ "
+            + "{ 'taskDate': { '$gte': ?1, '$lte': ?2 } }, "
+            + "{ 'taskDate': { '$lte': ?2 }, 'repeatDays.0': { '$exists': true } }, "
+            + "{ 'taskDate': null, 'repeatDays.0': { '$exists': true } } ] }")
+    List<Task> findCalendarCandidates(String userId, String from, String to);
 
-    Page<Task> findByUserIdAndCompletedAndPriority(String userId, boolean completed, Priority priority,
-            Pageable pageable);
+    // Cursor de Mongo en orden (taskDate, _id) sobre uid_date_id_idx; hay que cerrarlo
+    Stream<Task> streamByUserIdOrderByTaskDateAscIdAsc(String userId);
 
-    Page<Task> findByUserIdAndTaskDate(String userId, String taskDate, Pageable pageable);
+    long deleteByIdAndUserId(String id, String userId);
 }
@@ -0,0 +1,53 @@
+package com.taskify.task.repository;
+
+import com.taskify.task.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Operaciones atómicas filtradas por {_id, userId}: una sola ida y vuelta a
+ * Mongo, sin reescribir el documento completo. Devuelven vacío si la tarea no
+ * existe o pertenece a otro usuario.
+ */
+public interface TaskRepositoryCustom {
+
+    Optional<Task> updateDetails(String id, String userId, Task changes);
+
+    Optional<Task> updateCompleted(String id, String userId, boolean completed);
+
+    Optional<Task> addExcludedDate(String id, String userId, String date);
+
+    /**
+     * Listado por keyset ordenado por (taskDate, _id), sin consulta count.
+     * {@code after} es la última posición vista o null para la primera página.
+     * Las tareas sólo traen los campos de {@code fields}.
+     */
+    Slice<Task> findSlice(String userId, TaskFilter filter, TaskCursor after, int size, TaskFields fields);
+
+    // Tareas de hoy; aquí y no derivada para aplicar la read preference de los listados
+    Page<Task> findByUserIdAndTaskDate(String userId, String taskDate, Pageable pageable);
+
+    Page<Task> findFiltered(String userId, TaskFilter filter, Pageable pageable, TaskFields fields);
+
+    long countFiltered(String userId, TaskFilter filter);
+
+    /**
+     * Todos los recuentos en una sola agregación ($facet) sobre las tareas del
+     * usuario; {@code today} fija los grupos overdue/today/upcoming.
+     */
+    TaskStats stats(String userId, String today);
+
+    /**
+     * Ejecuta las escrituras en un único bulk write no ordenado. Las que
+     * modifican o borran tareas filtran por {_id, userId}, así que la
+     * propiedad se comprueba en la misma operación. Un borrado aplicado no se
+     * distingue en el resultado de uno sin coincidencia, así que antes se
+     * consulta qué ids de borrado son del usuario: el resto es NOT_FOUND y no
+     * se envía.
+     */
+    TaskBulkResult bulkWrite(List<TaskBulkWrite> writes);
+}
@@ -0,0 +1,319 @@
+package com.taskify.task.repository;
+
+import com.taskify.config.MongoOperationClass;
+import com.taskify.config.MongoOperationPolicy;
+import com.taskify.task.model.Task;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoOperationPolicy policy;
+
+    @Override
+    public Optional<Task> updateDetails(String id, String userId, Task changes) {
+        return modifyOwned(id, userId, detailsUpdate(changes));
+    }
+
+    @Override
+    public Optional<Task> updateCompleted(String id, String userId, boolean completed) {
+        Update update = new Update().set("completed", completed);
+        WriteConcern writeConcern = policy.writeConcern(MongoOperationClass.TOGGLE);
+        return writeConcern == null
+                ? modifyOwned(id, userId, update)
+                : modifyOwned(id, userId, update, writeConcern);
+    }
+
+    @Override
+    public Optional<Task> addExcludedDate(String id, String userId, String date) {
+        return modifyOwned(id, userId, new Update().addToSet("excludedDates", date));
+    }
+
+    @Override
+    public Slice<Task> findSlice(String userId, TaskFilter filter, TaskCursor after, int size, TaskFields fields) {
+        Criteria criteria = TaskCriteria.of(userId, filter);
+        if (after != null) {
+            criteria = new Criteria().andOperator(criteria, after(after));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.asc("taskDate"), Sort.Order.asc("id")))
+                .limit(size + 1);
+        fields.applyTo(query);
+
+        List<Task> tasks = mongoTemplate.find(query, Task.class);
+        boolean hasNext = tasks.size() > size;
+        List<Task> content = hasNext ? tasks.subList(0, size) : tasks;
+
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public Page<Task> findByUserIdAndTaskDate(String userId, String taskDate, Pageable pageable) {
+        Criteria criteria = Criteria.where("userId").is(userId).and("taskDate").is(taskDate);
+        List<Task> tasks = mongoTemplate.find(Query.query(criteria).with(pageable), Task.class);
+
+        return PageableExecutionUtils.getPage(tasks, pageable,
+                () -> mongoTemplate.count(Query.query(criteria), Task.class));
+    }
+
+    @Override
+    public Page<Task> findFiltered(String userId, TaskFilter filter, Pageable pageable, TaskFields fields) {
+        Query query = Query.query(TaskCriteria.of(userId, filter)).with(pageable);
+        fields.applyTo(query);
+        List<Task> tasks = mongoTemplate.find(query, Task.class);
+
+        // Solo se cuenta cuando el total no se deduce de la propia página
+        return PageableExecutionUtils.getPage(tasks, pageable,
+                () -> countFiltered(userId, filter));
+    }
+
+    @Override
+    public long countFiltered(String userId, TaskFilter filter) {
+        return mongoTemplate.count(Query.query(TaskCriteria.of(userId, filter)), Task.class);
+    }
+
+    @Override
+    public TaskStats stats(String userId, String today) {
+        // Sin fecha se filtra con semántica de consulta, que trata igual null y campo ausente.
+        // Una tarea sin completed almacenado se lee como pendiente y así se cuenta aquí
+        Criteria pendingOneOff = Criteria.where("completed").ne(true).and("repeatDays.0").exists(false);
+        AggregationExpression dateBucket = ConditionalOperators
+                .when(ComparisonOperators.valueOf("taskDate").lessThanValue(today)).then("overdue")
+                .otherwise(ConditionalOperators
+                        .when(ComparisonOperators.valueOf("taskDate").equalToValue(today)).then("today")
+                        .otherwise("upcoming"));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId)),
+                Aggregation.facet(
+                                Aggregation.project().and(ConditionalOperators.ifNull("completed").then(false))
+                                        .as("completed"),
+                                Aggregation.group("completed").count().as("count")).as("byCompletion")
+                        .and(Aggregation.group("priority").count().as("count")).as("byPriority")
+                        .and(Aggregation.match(new Criteria().andOperator(pendingOneOff,
+                                        Criteria.where("taskDate").ne(null))),
+                                Aggregation.project().and(dateBucket).as("bucket"),
+                                Aggregation.group("bucket").count().as("count")).as("byDate")
+                        .and(Aggregation.match(new Criteria().andOperator(pendingOneOff,
+                                        Criteria.where("taskDate").is(null))),
+                                Aggregation.count().as("count")).as("unscheduled")
+                        .and(Aggregation.match(Criteria.where("repeatDays.0").exists(true)),
+                                Aggregation.count().as("count")).as("recurring"));
+
+        return TaskStats.from(mongoTemplate.aggregate(aggregation, Task.class, Document.class)
+                .getUniqueMappedResult());
+    }
+
+    // Siguiente posición en orden (taskDate, _id); en Mongo null ordena antes que cualquier fecha
+    private Criteria after(TaskCursor cursor) {
+        if (cursor.taskDate() == null) {
+            return new Criteria().orOperator(
+                    Criteria.where("taskDate").is(null).and("id").gt(cursor.id()),
+                    Criteria.where("taskDate").ne(null));
+        }
+        return new Criteria().orOperator(
+                Criteria.where("taskDate").gt(cursor.taskDate()),
+                Criteria.where("taskDate").is(cursor.taskDate()).and("id").gt(cursor.id()));
+    }
+
+    @Override
+    public TaskBulkResult bulkWrite(List<TaskBulkWrite> writes) {
+        if (writes.isEmpty()) {
+            return TaskBulkResult.empty();
+        }
+
+        // Un borrado que coincide no deja rastro en el resultado: antes de enviarlo se
+        // comprueba qué ids son del usuario, como DELETE /api/tasks/{id}. El resto no se envía
+        Set<Integer> notFound = new HashSet<>(missingDeletes(writes));
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        // Posición en writes de cada operación enviada: los errores traen la del bulk
+        List<Integer> sent = new ArrayList<>();
+
+        for (int i = 0; i < writes.size(); i++) {
+            if (notFound.contains(i)) {
+                continue;
+            }
+            TaskBulkWrite write = writes.get(i);
+            sent.add(i);
+            switch (write.kind()) {
+                case INSERT -> {
+                    // Con el id asignado la auditoría no lo considera nuevo, las fechas se fijan aquí
+                    write.task().setCreatedAt(now);
+                    write.task().setUpdatedAt(now);
+                    bulk.insert(write.task());
+                }
+                case UPDATE_DETAILS -> bulk.updateOne(ownedBy(write.id(), write.userId()),
+                        detailsUpdate(write.task()).set("updatedAt", now));
+                case SET_COMPLETED -> bulk.updateOne(ownedBy(write.id(), write.userId()),
+                        new Update().set("completed", write.completed()).set("updatedAt", now));
+                case ADD_EXCLUDED_DATE -> bulk.updateOne(ownedBy(write.id(), write.userId()),
+                        new Update().addToSet("excludedDates", write.date()).set("updatedAt", now));
+                case DELETE -> bulk.remove(ownedBy(write.id(), write.userId()));
+            }
+        }
+        if (sent.isEmpty()) {
+            return new TaskBulkResult(Map.of(), notFound);
+        }
+
+        BulkWriteResult result;
+        Map<Integer, String> failures;
+        try {
+            result = bulk.execute();
+            failures = Map.of();
+        } catch (BulkOperationException e) {
+            result = e.getResult();
+            failures = toFailures(e.getErrors(), sent);
+        } catch (MongoBulkWriteException e) {
+            result = e.getWriteResult();
+            failures = toFailures(e.getWriteErrors(), sent);
+        }
+        notFound.addAll(missingUpdates(writes, failures, result));
+        return new TaskBulkResult(failures, notFound);
+    }
+
+    // Borrados de ids que no existen o son de otro usuario
+    private Set<Integer> missingDeletes(List<TaskBulkWrite> writes) {
+        List<Integer> deletes = new ArrayList<>();
+        for (int i = 0; i < writes.size(); i++) {
+            if (writes.get(i).kind() == TaskBulkWrite.Kind.DELETE) {
+                deletes.add(i);
+            }
+        }
+        return deletes.isEmpty() ? Set.of() : notOwned(writes, deletes);
+    }
+
+    /**
+     * El resultado del bulk write sólo trae el total de coincidencias. Si cuadra
+     * con las actualizaciones enviadas todas encontraron su tarea; si no, se
+     * averigua cuáles con una consulta, sólo en ese caso.
+     */
+    private Set<Integer> missingUpdates(List<TaskBulkWrite> writes, Map<Integer, String> failures,
+            BulkWriteResult result) {
+        if (!result.wasAcknowledged()) {
+            return Set.of();
+        }
+
+        List<Integer> updates = new ArrayList<>();
+        for (int i = 0; i < writes.size(); i++) {
+            TaskBulkWrite.Kind kind = writes.get(i).kind();
+            if (!failures.containsKey(i) && kind != TaskBulkWrite.Kind.INSERT && kind != TaskBulkWrite.Kind.DELETE) {
+                updates.add(i);
+            }
+        }
+        return result.getMatchedCount() < updates.size() ? notOwned(writes, updates) : Set.of();
+    }
+
+    // Posiciones cuyo id no es ahora de una tarea de ese usuario: una consulta por usuario
+    private Set<Integer> notOwned(List<TaskBulkWrite> writes, List<Integer> indexes) {
+        Set<Integer> missing = new HashSet<>();
+        indexes.stream().collect(Collectors.groupingBy(i -> writes.get(i).userId())).forEach((userId, own) -> {
+            Query owned = Query.query(Criteria.where("userId").is(userId));
+            Set<String> ids = existingIds(own.stream().map(i -> writes.get(i).id()).toList(), owned);
+            own.stream().filter(i -> !ids.contains(writes.get(i).id())).forEach(missing::add);
+        });
+        return missing;
+    }
+
+    private Set<String> existingIds(Collection<String> ids, Query query) {
+        query.addCriteria(Criteria.where("id").in(ids));
+        query.fields().include("id");
+
+        return mongoTemplate.find(query, Task.class).stream()
+                .map(Task::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<Integer, String> toFailures(List<BulkWriteError> errors, List<Integer> sent) {
+        Map<Integer, String> failures = new HashMap<>();
+        errors.forEach(error -> failures.put(sent.get(error.getIndex()), error.getMessage()));
+        return failures;
+    }
+
+    private Update detailsUpdate(Task changes) {
+        return new Update()
+                .set("title", changes.getTitle())
+                .set("description", changes.getDescription())
+                .set("taskDate", changes.getTaskDate())
+                .set("priority", changes.getPriority())
+                .set("repeatDays", changes.getRepeatDays())
+                .set("repeatMask", changes.getRepeatMask());
+    }
+
+    private Optional<Task> modifyOwned(String id, String userId, Update update) {
+        // @LastModifiedDate solo se aplica en save(), aquí se fija a mano
+        update.set("updatedAt", LocalDateTime.now());
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                ownedBy(id, userId),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Task.class));
+    }
+
+    /**
+     * Como {@link #modifyOwned(String, String, Update)} con otro write concern:
+     * findAndModify de MongoTemplate no lo admite, así que se mapea la consulta
+     * y se ejecuta findOneAndUpdate sobre la colección.
+     */
+    private Optional<Task> modifyOwned(String id, String userId, Update update, WriteConcern writeConcern) {
+        update.set("updatedAt", LocalDateTime.now());
+
+        MongoConverter converter = mongoTemplate.getConverter();
+        MongoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(Task.class);
+        Document filter = new QueryMapper(converter).getMappedObject(ownedBy(id, userId).getQueryObject(), entity);
+        Document changes = new UpdateMapper(converter).getMappedObject(update.getUpdateObject(), entity);
+
+        Document updated = mongoTemplate.execute(Task.class, collection -> collection
+                .withWriteConcern(writeConcern)
+                .findOneAndUpdate(filter, changes, new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER)));
+        return Optional.ofNullable(updated).map(document -> converter.read(Task.class, document));
+    }
+
+    static Query ownedBy(String id, String userId) {
+        return Query.query(Criteria.where("id").is(id).and("userId").is(userId));
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskify.task.repository;
+
+import com.taskify.task.model.Priority;
+import org.bson.Document;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recuento de las tareas de un usuario. Los grupos por fecha sólo cuentan
+ * tareas pendientes y no recurrentes: overdue (fecha pasada), today, upcoming
+ * (fecha futura) y unscheduled (sin fecha). Las recurrentes van en recurring.
+ */
+public record TaskStats(
+        long total,
+        long completed,
+        long pending,
+        Map<Priority, Long> byPriority,
+        long overdue,
+        long today,
+        long upcoming,
+        long unscheduled,
+        long recurring) {
+
+    // Resultado del $facet de TaskRepositoryCustomImpl.stats: cada faceta es una lista
+    // de {_id, count}, o de un solo {count} en las que sólo cuentan
+    static TaskStats from(Document facets) {
+        Map<Object, Long> byCompletion = counts(facets, "byCompletion");
+        Map<Object, Long> byPriorityName = counts(facets, "byPriority");
+        Map<Object, Long> byDate = counts(facets, "byDate");
+
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, byPriorityName.getOrDefault(priority.name(), 0L));
+        }
+        long completed = byCompletion.getOrDefault(true, 0L);
+        long pending = byCompletion.getOrDefault(false, 0L);
+
+        return new TaskStats(
+                completed + pending,
+                completed,
+                pending,
+                byPriority,
+                byDate.getOrDefault("overdue", 0L),
+                byDate.getOrDefault("today", 0L),
+                byDate.getOrDefault("upcoming", 0L),
+                counts(facets, "unscheduled").getOrDefault(null, 0L),
+                counts(facets, "recurring").getOrDefault(null, 0L));
+    }
+
+    private static Map<Object, Long> counts(Document facets, String name) {
+        Map<Object, Long> counts = new HashMap<>();
+        List<Document> groups = facets == null ? null : facets.getList(name, Document.class);
+        if (groups != null) {
+            groups.forEach(group -> counts.put(group.get("_id"), ((Number) group.get("count")).longValue()));
+        }
+        return counts;
+    }
+}
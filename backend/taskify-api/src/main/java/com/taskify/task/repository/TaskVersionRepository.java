@@ -0,0 +1,9 @@
+package com.taskify.task.repository;
+
+import com.taskify.task.model.TaskVersion;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
+
+public interface TaskVersionRepository extends ListCrudRepository<TaskVersion, String>,
+        ListPagingAndSortingRepository<TaskVersion, String>, TaskVersionRepositoryCustom {
+}
@@ -0,0 +1,10 @@
+package com.taskify.task.repository;
+
+public interface TaskVersionRepositoryCustom {
+
+    /**
+     * Incrementa atómicamente la versión del usuario (creándola si no existe)
+     * y devuelve el nuevo valor.
+     */
+    long increment(String userId);
+}
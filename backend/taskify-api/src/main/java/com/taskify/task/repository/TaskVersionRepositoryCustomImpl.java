@@ -0,0 +1,25 @@
+package com.taskify.task.repository;
+
+import com.taskify.task.model.TaskVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class TaskVersionRepositoryCustomImpl implements TaskVersionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public long increment(String userId) {
+        TaskVersion updated = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc("version", 1L),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                TaskVersion.class);
+        return updated == null ? 0 : updated.getVersion();
+    }
+}
@@ -0,0 +1,213 @@
+package com.taskify.task.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskRepository;
+import com.taskify.task.service.TaskVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido en memoria por usuario: término normalizado → tareas y peso
+ * (una aparición en el título vale {@link #TITLE_WEIGHT}, en la descripción 1).
+ * Los términos se guardan ordenados, así que un prefijo es un rango.
+ *
+ * El índice de un usuario se construye en su primera búsqueda leyendo sus
+ * tareas y guarda la versión de {@link TaskVersionService} con la que se
+ * construyó. Las mutaciones de TaskService lo actualizan en el sitio cuando
+ * traen la versión siguiente; cualquier otro cambio (lotes, importaciones,
+ * otra instancia) deja la versión desfasada y el índice se reconstruye en la
+ * siguiente búsqueda. Se limita por número de tareas indexadas
+ * ({@code tasks.search.memory.max-tasks}) y caduca tras
+ * {@code tasks.search.memory.ttl} sin usarse.
+ *
+ * Métricas: cache.gets{cache=task.search.memory}.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.search.index", havingValue = "memory")
+public class InMemoryTaskSearchIndex implements TaskSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+
+    private final TaskRepository repository;
+    private final TaskVersionService versions;
+    private final Cache<String, UserIndex> users;
+
+    public InMemoryTaskSearchIndex(TaskRepository repository,
+            TaskVersionService versions,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.search.memory.max-tasks:200000}") long maxTasks,
+            @Value("${tasks.search.memory.ttl:30m}") Duration ttl) {
+        this.repository = repository;
+        this.versions = versions;
+        this.users = Caffeine.newBuilder()
+                .maximumWeight(maxTasks)
+                .<String, UserIndex>weigher((userId, index) -> index.size() + 1)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "task.search.memory");
+    }
+
+    @Override
+    public List<Task> search(String userId, String query, int limit) {
+        long version = versions.current(userId);
+        UserIndex index = users.getIfPresent(userId);
+        if (index == null || index.version() != version) {
+            index = build(userId, version);
+            users.put(userId, index);
+        }
+        return index.search(SearchTerms.of(query), limit);
+    }
+
+    @Override
+    public void indexed(Task task, long version) {
+        update(task.getUserId(), version, index -> index.put(task));
+    }
+
+    @Override
+    public void removed(String userId, String taskId, long version) {
+        update(userId, version, index -> index.remove(taskId));
+    }
+
+    private void update(String userId, long version, Consumer<UserIndex> change) {
+        UserIndex index = users.getIfPresent(userId);
+        if (index == null) {
+            return;
+        }
+        if (!index.advance(version, change)) {
+            // Se ha perdido algún cambio intermedio: se reconstruye en la próxima búsqueda
+            users.invalidate(userId);
+            return;
+        }
+        // Vuelve a insertarlo para que Caffeine recalcule su peso
+        users.put(userId, index);
+    }
+
+    private UserIndex build(String userId, long version) {
+        UserIndex index = new UserIndex(version);
+        try (Stream<Task> tasks = repository.streamByUserIdOrderByTaskDateAscIdAsc(userId)) {
+            tasks.forEach(index::put);
+        }
+        return index;
+    }
+
+    private static final class UserIndex {
+        private long version;
+        private final Map<String, Task> tasks = new HashMap<>();
+        private final Map<String, Map<String, Integer>> termsByTask = new HashMap<>();
+        private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+
+        private UserIndex(long version) {
+            this.version = version;
+        }
+
+        private synchronized long version() {
+            return version;
+        }
+
+        private synchronized int size() {
+            return tasks.size();
+        }
+
+        // Aplica el cambio sólo si es el siguiente a la versión indexada
+        private synchronized boolean advance(long newVersion, Consumer<UserIndex> change) {
+            if (newVersion != version + 1) {
+                return false;
+            }
+            change.accept(this);
+            version = newVersion;
+            return true;
+        }
+
+        private synchronized void put(Task task) {
+            remove(task.getId());
+
+            Map<String, Integer> weights = new HashMap<>();
+            SearchTerms.of(task.getTitle()).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+            SearchTerms.of(task.getDescription()).forEach(term -> weights.merge(term, 1, Integer::sum));
+
+            tasks.put(task.getId(), task);
+            termsByTask.put(task.getId(), weights);
+            weights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(task.getId(), weight));
+        }
+
+        private synchronized void remove(String taskId) {
+            tasks.remove(taskId);
+            Map<String, Integer> weights = termsByTask.remove(taskId);
+            if (weights == null) {
+                return;
+            }
+            weights.keySet().forEach(term -> {
+                Map<String, Integer> posting = postings.get(term);
+                posting.remove(taskId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            });
+        }
+
+        /**
+         * Todas las palabras de la consulta deben aparecer. Las anteriores a la
+         * última casan completas; la última, también como prefijo a mitad de
+         * peso. La puntuación es la suma de pesos de los términos casados.
+         */
+        private synchronized List<Task> search(List<String> terms, int limit) {
+            if (terms.isEmpty()) {
+                return List.of();
+            }
+
+            Map<String, Integer> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                Map<String, Integer> matches = matches(terms.get(i), i == terms.size() - 1);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((taskId, score) -> score + matches.get(taskId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            Map<String, Integer> finalScores = scores;
+            return finalScores.keySet().stream()
+                    .sorted(Comparator.<String>comparingInt(finalScores::get).reversed()
+                            .thenComparing(Comparator.naturalOrder()))
+                    .limit(limit)
+                    .map(tasks::get)
+                    .toList();
+        }
+
+        private Map<String, Integer> matches(String term, boolean prefix) {
+            Map<String, Integer> scores = new HashMap<>();
+            Map<String, Integer> exact = postings.get(term);
+            if (exact != null) {
+                exact.forEach((taskId, weight) -> scores.merge(taskId, weight * 2, Math::max));
+            }
+            if (prefix) {
+                postings.subMap(term, false, term + Character.MAX_VALUE, false).values()
+                        .forEach(posting -> posting.forEach((taskId, weight) ->
+                                scores.merge(taskId, weight, Math::max)));
+            }
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.taskify.task.search;
+
+import com.taskify.config.MongoOperationClass;
+import com.taskify.config.MongoOperationPolicy;
+import com.taskify.task.model.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Búsqueda con el índice de texto uid_text_idx ({userId, title, description}):
+ * al empezar por userId cada consulta sólo recorre las entradas del usuario.
+ *
+ * El índice de texto sólo casa palabras completas (con stemming), así que si
+ * no llena el límite se completa con las tareas en las que alguna palabra
+ * empieza por el último término de la consulta.
+ *
+ * El idioma del stemmer y de las stop words ({@code tasks.search.mongo.language},
+ * spanish por defecto; none para desactivarlos) se fija en el índice y en cada
+ * consulta. Las anotaciones de Task no admiten default_language en un índice
+ * compuesto, así que el índice se crea aquí al arrancar; si ya hay un índice
+ * de texto con otro nombre o idioma se sustituye (sólo puede haber uno por
+ * colección).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.search.index", havingValue = "mongo", matchIfMissing = true)
+public class MongoTaskSearchIndex implements TaskSearchIndex, InitializingBean {
+
+    static final String TEXT_INDEX = "uid_text_idx";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoOperationPolicy policy;
+    private final String language;
+
+    public MongoTaskSearchIndex(MongoTemplate mongoTemplate,
+            MongoOperationPolicy policy,
+            @Value("${tasks.search.mongo.language:spanish}") String language) {
+        this.mongoTemplate = mongoTemplate;
+        this.policy = policy;
+        this.language = language;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        IndexOperations indexOps = mongoTemplate.indexOps(Task.class);
+        for (IndexInfo index : indexOps.getIndexInfo()) {
+            if (index.getIndexFields().stream().noneMatch(IndexField::isText)) {
+                continue;
+            }
+            if (index.getName().equals(TEXT_INDEX) && index.getLanguage().equals(language)) {
+                return;
+            }
+            log.info("Replacing text index {} ({}) with {} ({})", index.getName(), index.getLanguage(),
+                    TEXT_INDEX, language);
+            indexOps.dropIndex(index.getName());
+        }
+        indexOps.createIndex(textIndex(language));
+    }
+
+    // {userId, title, description}: al empezar por userId cada búsqueda sólo recorre las entradas del usuario
+    static IndexDefinition textIndex(String language) {
+        return new IndexDefinition() {
+            @Override
+            public Document getIndexKeys() {
+                return new Document("userId", 1).append("title", "text").append("description", "text");
+            }
+
+            @Override
+            public Document getIndexOptions() {
+                return new Document("name", TEXT_INDEX).append("default_language", language);
+            }
+        };
+    }
+
+    @Override
+    public List<Task> search(String userId, String query, int limit) {
+        Query text = TextQuery.queryText(TextCriteria.forLanguage(language).matching(query))
+                .sortByScore()
+                .addCriteria(Criteria.where("userId").is(userId))
+                .limit(limit);
+        List<Task> results = new ArrayList<>(mongoTemplate.find(
+                policy.applyTo(text, MongoOperationClass.SEARCH), Task.class));
+
+        String lastWord = SearchTerms.lastWord(query);
+        if (results.size() >= limit || lastWord == null) {
+            return results;
+        }
+
+        // Inicio de palabra: principio del texto o tras un carácter que no es letra ni dígito
+        String prefix = "(^|[^\\p{L}\\p{N}])" + Pattern.quote(lastWord);
+        Query prefixQuery = Query.query(Criteria.where("userId").is(userId).orOperator(
+                        Criteria.where("title").regex(prefix, "i"),
+                        Criteria.where("description").regex(prefix, "i")))
+                .limit(limit);
+
+        Set<String> seen = new HashSet<>();
+        results.forEach(task -> seen.add(task.getId()));
+        for (Task task : mongoTemplate.find(policy.applyTo(prefixQuery, MongoOperationClass.SEARCH), Task.class)) {
+            if (results.size() >= limit) {
+                break;
+            }
+            if (seen.add(task.getId())) {
+                results.add(task);
+            }
+        }
+        return results;
+    }
+}
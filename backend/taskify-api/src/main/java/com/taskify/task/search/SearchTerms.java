@@ -0,0 +1,49 @@
+package com.taskify.task.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de textos y consultas: minúsculas, sin tildes y partido en
+ * palabras (letras y dígitos).
+ */
+final class SearchTerms {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTerms() {
+    }
+
+    static List<String> of(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String term : SEPARATORS.split(normalized)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // Última palabra tal como la escribió el usuario (con tildes y mayúsculas), o null
+    static String lastWord(String text) {
+        if (text == null) {
+            return null;
+        }
+        String[] words = SEPARATORS.split(text.strip());
+        for (int i = words.length - 1; i >= 0; i--) {
+            if (!words[i].isEmpty()) {
+                return words[i];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskify.task.search;
+
+import com.taskify.task.model.Task;
+
+import java.util.List;
+
+/**
+ * Búsqueda de texto sobre el título y la descripción de las tareas de un
+ * usuario, ordenada por relevancia. La última palabra de la consulta casa
+ * también como prefijo (búsqueda mientras se escribe).
+ *
+ * La implementación se elige con {@code tasks.search.index}: mongo (índice de
+ * texto, por defecto) o memory (índice invertido en el proceso).
+ */
+public interface TaskSearchIndex {
+
+    List<Task> search(String userId, String query, int limit);
+
+    /**
+     * Tarea creada o modificada por {@code TaskService}; {@code version} es la
+     * versión de las tareas del usuario tras el cambio.
+     */
+    default void indexed(Task task, long version) {
+    }
+
+    default void removed(String userId, String taskId, long version) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.taskify.task.service;
+
+import com.taskify.task.dto.BatchOperationDTO;
+import com.taskify.task.dto.BatchOperationType;
+import com.taskify.task.dto.BatchResultDTO;
+import com.taskify.task.dto.TaskRequestDTO;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskBulkResult;
+import com.taskify.task.repository.TaskBulkWrite;
+import com.taskify.task.repository.TaskRepository;
+import com.taskify.task.stream.TaskEventPublisher;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Aplica una lista mixta de operaciones sobre las tareas de un usuario con un
+ * único bulk write no ordenado. Cada escritura filtra por {_id, userId}: las
+ * que no encuentran tarea del usuario se devuelven como NOT_FOUND.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "taskify.service", histogram = true)
+public class TaskBatchService {
+
+    private final TaskRepository repository;
+    private final Validator validator;
+    private final TaskVersionService versions;
+    private final TaskReadCache readCache;
+    private final TaskEventPublisher events;
+
+    public List<BatchResultDTO> apply(List<BatchOperationDTO> operations, String userId) {
+        BatchResultDTO[] results = new BatchResultDTO[operations.size()];
+        List<Integer> pending = new ArrayList<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDTO op = operations.get(i);
+            String error = validate(op);
+            if (error != null) {
+                results[i] = result(i, op, op == null ? null : op.getId(), BatchResultDTO.Status.INVALID, error);
+            } else {
+                pending.add(i);
+            }
+        }
+
+        List<TaskBulkWrite> writes = new ArrayList<>();
+        for (int i : pending) {
+            writes.add(toWrite(operations.get(i), userId));
+        }
+
+        TaskBulkResult result = repository.bulkWrite(writes);
+        boolean changed = false;
+        for (int w = 0; w < writes.size(); w++) {
+            int i = pending.get(w);
+            TaskBulkWrite write = writes.get(w);
+            String failure = result.failures().get(w);
+            if (failure != null) {
+                results[i] = result(i, operations.get(i), write.id(), BatchResultDTO.Status.FAILED, failure);
+            } else if (result.notFound().contains(w)) {
+                results[i] = result(i, operations.get(i), write.id(), BatchResultDTO.Status.NOT_FOUND,
+                        "Task not found with id: " + write.id());
+            } else {
+                results[i] = result(i, operations.get(i), write.id(), BatchResultDTO.Status.OK, null);
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            readCache.invalidate(userId);
+            versions.bump(userId);
+        }
+        for (int w = 0; w < writes.size(); w++) {
+            if (result.applied(w)) {
+                publish(writes.get(w));
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    // El bulk write no devuelve documentos: de las modificaciones sólo se notifica el id
+    private void publish(TaskBulkWrite write) {
+        switch (write.kind()) {
+            case INSERT -> events.created(write.task());
+            case DELETE -> events.deleted(write.userId(), write.id());
+            default -> events.updated(write.userId(), write.id());
+        }
+    }
+
+    private TaskBulkWrite toWrite(BatchOperationDTO op, String userId) {
+        return switch (op.getType()) {
+            case CREATE -> {
+                Task task = TaskService.newTask(op.getTask(), userId);
+                task.setId(new ObjectId().toHexString());
+                yield TaskBulkWrite.insert(task);
+            }
+            case UPDATE -> TaskBulkWrite.updateDetails(op.getId(), userId, TaskService.changesFrom(op.getTask()));
+            case COMPLETE -> TaskBulkWrite.setCompleted(op.getId(), userId, op.getCompleted());
+            case EXCLUDE -> TaskBulkWrite.addExcludedDate(op.getId(), userId, op.getDate());
+            case DELETE -> TaskBulkWrite.delete(op.getId(), userId);
+        };
+    }
+
+    private String validate(BatchOperationDTO op) {
+        if (op == null || op.getType() == null) {
+            return "type is required";
+        }
+        if (op.getType() != BatchOperationType.CREATE && isBlank(op.getId())) {
+            return "id is required";
+        }
+
+        switch (op.getType()) {
+            case CREATE, UPDATE -> {
+                if (op.getTask() == null) {
+                    return "task is required";
+                }
+                String violations = violations(validator, op.getTask());
+                if (violations != null) {
+                    return violations;
+                }
+            }
+            case COMPLETE -> {
+                if (op.getCompleted() == null) {
+                    return "completed is required";
+                }
+            }
+            case EXCLUDE -> {
+                if (isBlank(op.getDate())) {
+                    return "date is required";
+                }
+            }
+            case DELETE -> {
+            }
+        }
+        return null;
+    }
+
+    // Restricciones de TaskRequestDTO incumplidas como "campo: mensaje", o null si es válido
+    static String violations(Validator validator, TaskRequestDTO task) {
+        Set<ConstraintViolation<TaskRequestDTO>> violations = validator.validate(task);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private BatchResultDTO result(int index, BatchOperationDTO op, String id, BatchResultDTO.Status status,
+            String message) {
+        return BatchResultDTO.builder()
+                .index(index)
+                .type(op == null ? null : op.getType())
+                .id(id)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
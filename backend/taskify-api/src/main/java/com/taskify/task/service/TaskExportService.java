@@ -0,0 +1,148 @@
+package com.taskify.task.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskify.exception.BadRequestException;
+import com.taskify.task.dto.TaskResponseDTO;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Exporta todas las tareas de un usuario leyendo un cursor de Mongo y
+ * escribiendo cada tarea en la salida según llega: nunca se acumulan en
+ * memoria más tareas que las de un lote del cursor.
+ */
+@Service
+@Timed(value = "taskify.service", histogram = true)
+public class TaskExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid export format: " + value);
+            }
+        }
+    }
+
+    private static final String CSV_HEADER =
+            "id,title,description,taskDate,completed,priority,repeatDays,excludedDates,createdAt,updatedAt";
+
+    private final TaskRepository repository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter taskWriter;
+
+    public TaskExportService(TaskRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        // Sin flush por tarea: se vacía el buffer del generador cuando se llena
+        this.taskWriter = objectMapper.writerFor(TaskResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void export(String userId, Format format, OutputStream out) throws IOException {
+        try (Stream<Task> tasks = repository.streamByUserIdOrderByTaskDateAscIdAsc(userId)) {
+            switch (format) {
+                case NDJSON -> writeNdjson(tasks.iterator(), out);
+                case CSV -> writeCsv(tasks.iterator(), out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<Task> tasks, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // La salida la cierra el contenedor
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (tasks.hasNext()) {
+                taskWriter.writeValue(generator, TaskResponseDTO.from(tasks.next()));
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<Task> tasks, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            writer.write(csv(task.getId()));
+            writer.write(',');
+            writer.write(csv(task.getTitle()));
+            writer.write(',');
+            writer.write(csv(task.getDescription()));
+            writer.write(',');
+            writer.write(csv(task.getTaskDate()));
+            writer.write(',');
+            writer.write(String.valueOf(task.isCompleted()));
+            writer.write(',');
+            writer.write(csv(task.getPriority() == null ? null : task.getPriority().name()));
+            writer.write(',');
+            writer.write(csv(join(task.getRepeatDays())));
+            writer.write(',');
+            writer.write(csv(join(task.getExcludedDates())));
+            writer.write(',');
+            writer.write(csv(task.getCreatedAt() == null ? null : task.getCreatedAt().toString()));
+            writer.write(',');
+            writer.write(csv(task.getUpdatedAt() == null ? null : task.getUpdatedAt().toString()));
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    // Listas separadas por ';' dentro de una sola columna
+    private static String join(List<String> values) {
+        return values == null ? null : String.join(";", values);
+    }
+
+    // RFC 4180: entre comillas si contiene separador, comillas o saltos de línea.
+    // Las celdas que una hoja de cálculo interpretaría como fórmula se prefijan
+    // con ' para que se muestren como texto
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
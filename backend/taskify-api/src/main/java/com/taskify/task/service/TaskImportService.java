@@ -0,0 +1,199 @@
+package com.taskify.task.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskify.task.dto.ImportResultDTO;
+import com.taskify.task.dto.TaskRequestDTO;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskBulkWrite;
+import com.taskify.task.repository.TaskRepository;
+import com.taskify.task.stream.TaskEventPublisher;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Importa tareas desde un cuerpo NDJSON (un TaskRequestDTO por línea) leyendo
+ * línea a línea e insertando en bulk writes de {@code tasks.import.batch-size}
+ * tareas. Una línea inválida o que falla al insertarse se informa con su
+ * número y no interrumpe la carga. La memoria usada depende del tamaño del
+ * lote, no del de la carga.
+ */
+@Service
+@Timed(value = "taskify.service", histogram = true)
+public class TaskImportService {
+
+    // Una tarea válida ocupa mucho menos; acota la memoria ante líneas sin salto
+    static final int MAX_LINE_LENGTH = 16 * 1024;
+
+    private final TaskRepository repository;
+    private final Validator validator;
+    private final TaskVersionService versions;
+    private final TaskReadCache readCache;
+    private final TaskEventPublisher events;
+    private final ObjectReader taskReader;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public TaskImportService(TaskRepository repository,
+            Validator validator,
+            ObjectMapper objectMapper,
+            TaskVersionService versions,
+            TaskReadCache readCache,
+            TaskEventPublisher events,
+            @Value("${tasks.import.batch-size:500}") int batchSize,
+            @Value("${tasks.import.max-errors:100}") int maxErrors) {
+        this.repository = repository;
+        this.validator = validator;
+        this.versions = versions;
+        this.readCache = readCache;
+        this.events = events;
+        this.taskReader = objectMapper.readerFor(TaskRequestDTO.class)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxErrors = maxErrors;
+    }
+
+    public ImportResultDTO importTasks(String userId, InputStream body) throws IOException {
+        Progress progress = new Progress();
+        LineReader lines = new LineReader(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        List<TaskBulkWrite> batch = new ArrayList<>(batchSize);
+        long[] batchLines = new long[batchSize];
+
+        String line;
+        while ((line = lines.next()) != null) {
+            long number = ++progress.lines;
+            if (lines.tooLong()) {
+                progress.error(number, "Line exceeds " + MAX_LINE_LENGTH + " characters");
+                continue;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+
+            TaskRequestDTO dto;
+            try {
+                dto = taskReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                progress.error(number, "Invalid JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (dto == null) {
+                progress.error(number, "Expected a task object");
+                continue;
+            }
+            String violations = TaskBatchService.violations(validator, dto);
+            if (violations != null) {
+                progress.error(number, violations);
+                continue;
+            }
+
+            Task task = TaskService.newTask(dto, userId);
+            task.setId(new ObjectId().toHexString());
+            batchLines[batch.size()] = number;
+            batch.add(TaskBulkWrite.insert(task));
+            if (batch.size() == batchSize) {
+                flush(userId, batch, batchLines, progress);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        flush(userId, batch, batchLines, progress);
+
+        return ImportResultDTO.builder()
+                .lines(progress.lines)
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .build();
+    }
+
+    // Cada lote se confirma por separado: lo ya insertado queda aunque la carga se corte después
+    private void flush(String userId, List<TaskBulkWrite> batch, long[] batchLines, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<Integer, String> failures = repository.bulkWrite(batch).failures();
+        for (int i = 0; i < batch.size(); i++) {
+            String failure = failures.get(i);
+            if (failure == null) {
+                progress.imported++;
+                events.created(batch.get(i).task());
+            } else {
+                progress.error(batchLines[i], failure);
+            }
+        }
+        if (failures.size() < batch.size()) {
+            readCache.invalidate(userId);
+            versions.bump(userId);
+        }
+    }
+
+    private final class Progress {
+        private long lines;
+        private long imported;
+        private long failed;
+        private final List<ImportResultDTO.LineError> errors = new ArrayList<>();
+
+        private void error(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(ImportResultDTO.LineError.builder().line(line).message(message).build());
+            }
+        }
+    }
+
+    /**
+     * Lee líneas sin pasar de {@link #MAX_LINE_LENGTH} caracteres: el resto de
+     * una línea más larga se descarta y {@link #tooLong()} lo indica.
+     */
+    private static final class LineReader {
+        private final Reader reader;
+        private final StringBuilder line = new StringBuilder();
+        private boolean tooLong;
+
+        private LineReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        private String next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1 && c != '\n') {
+                if (line.length() < MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+                c = reader.read();
+            }
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                line.setLength(length - 1);
+            }
+            return line.toString();
+        }
+
+        private boolean tooLong() {
+            return tooLong;
+        }
+    }
+}
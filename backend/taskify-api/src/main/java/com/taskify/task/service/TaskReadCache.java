@@ -0,0 +1,147 @@
+package com.taskify.task.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskFields;
+import com.taskify.task.repository.TaskFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caché de lectura de las listas de tareas (list y listToday), agrupada por
+ * usuario para poder invalidar exactamente sus entradas.
+ *
+ * Cada grupo guarda la versión de {@link TaskVersionService} con la que se
+ * llenó: una mutación en esta instancia lo invalida directamente y una hecha en
+ * otra instancia cambia la versión, así que nunca se sirve una página anterior
+ * a un cambio. El tamaño se limita por número de tareas cacheadas y cada grupo
+ * caduca {@code tasks.cache.ttl} después de su última escritura.
+ *
+ * Métricas: taskify.task.cache.requests{result=hit|miss}, taskify.task.cache.users
+ * y taskify.task.cache.evictions. Se desactiva con {@code tasks.cache.enabled=false}.
+ */
+@Component
+public class TaskReadCache {
+
+    record Query(String kind, TaskFilter filter, Pageable pageable, TaskFields fields, String date) {
+
+        static Query list(TaskFilter filter, Pageable pageable, TaskFields fields) {
+            return new Query("list", filter, pageable, fields, null);
+        }
+
+        static Query today(Pageable pageable, String date) {
+            return new Query("today", null, pageable, TaskFields.ALL, date);
+        }
+    }
+
+    // Inmutable: cada escritura crea un grupo nuevo para que Caffeine recalcule su peso
+    private record UserEntries(long version, Map<Query, Page<Task>> pages) {
+
+        int weight() {
+            return pages.values().stream().mapToInt(page -> page.getNumberOfElements() + 1).sum();
+        }
+    }
+
+    private final TaskVersionService versions;
+    private final boolean enabled;
+    private final int maxQueriesPerUser;
+    private final Cache<String, UserEntries> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public TaskReadCache(TaskVersionService versions,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.cache.enabled:true}") boolean enabled,
+            @Value("${tasks.cache.max-tasks:50000}") long maxTasks,
+            @Value("${tasks.cache.max-queries-per-user:16}") int maxQueriesPerUser,
+            @Value("${tasks.cache.ttl:60s}") Duration ttl) {
+        this.versions = versions;
+        this.enabled = enabled;
+        this.maxQueriesPerUser = maxQueriesPerUser;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.evictions = Counter.builder("taskify.task.cache.evictions")
+                .description("Grupos de usuario expulsados por tamaño o caducidad")
+                .register(meterRegistry);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxTasks)
+                .weigher((String userId, UserEntries entries) -> entries.weight())
+                .expireAfterWrite(ttl)
+                .removalListener((String userId, UserEntries entries, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+
+        Gauge.builder("taskify.task.cache.users", cache, Cache::estimatedSize)
+                .description("Usuarios con listas de tareas en caché")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("taskify.task.cache.requests")
+                .description("Lecturas de listas de tareas servidas desde la caché o desde Mongo")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    Page<Task> get(String userId, Query query, Supplier<Page<Task>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        // La versión se lee antes de consultar: lo cacheado nunca es más nuevo que su versión
+        long version = versions.current(userId);
+        UserEntries entries = cache.getIfPresent(userId);
+        if (entries != null && entries.version() == version) {
+            Page<Task> page = entries.pages().get(query);
+            if (page != null) {
+                hits.increment();
+                return page;
+            }
+        }
+
+        misses.increment();
+        Page<Task> page = loader.get();
+        cache.asMap().compute(userId, (id, current) -> with(current, version, query, page));
+        return page;
+    }
+
+    public void invalidate(String userId) {
+        if (enabled) {
+            cache.invalidate(userId);
+        }
+    }
+
+    private UserEntries with(UserEntries current, long version, Query query, Page<Task> page) {
+        if (current != null && current.version() > version) {
+            return current;
+        }
+
+        LinkedHashMap<Query, Page<Task>> pages = new LinkedHashMap<>();
+        if (current != null && current.version() == version) {
+            pages.putAll(current.pages());
+        }
+        pages.remove(query);
+        pages.put(query, page);
+        while (pages.size() > maxQueriesPerUser) {
+            pages.remove(pages.keySet().iterator().next());
+        }
+        return new UserEntries(version, Collections.unmodifiableMap(pages));
+    }
+}
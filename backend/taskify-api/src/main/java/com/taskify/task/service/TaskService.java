@@ -2,112 +2,225 @@ package com.taskify.task.service;
 
 import com.taskify.exception.BadRequestException;
 import com.taskify.exception.ResourceNotFoundException;
+import com.taskify.task.dto.TaskFilterDTO;
 import com.taskify.task.dto.TaskRequestDTO;
+import com.taskify.task.dto.TaskSliceDTO;
 import com.taskify.task.model.Priority;
 import com.taskify.task.model.Task;
+import com.taskify.task.recurrence.RecurrenceEngine;
+import com.taskify.task.recurrence.TaskOccurrence;
+import com.taskify.task.recurrence.WeekdayMask;
+import com.taskify.task.repository.TaskCursor;
+import com.taskify.task.repository.TaskFields;
+import com.taskify.task.repository.TaskFilter;
 import com.taskify.task.repository.TaskRepository;
+import com.taskify.task.repository.TaskStats;
+import com.taskify.task.search.TaskSearchIndex;
+import com.taskify.task.stream.TaskEventPublisher;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "taskify.service", histogram = true)
 public class TaskService {
 
+    private static final long MAX_CALENDAR_DAYS = 366;
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_SEARCH_LENGTH = 100;
+
     private final TaskRepository repository;
+    private final RecurrenceEngine recurrenceEngine;
+    private final TaskVersionService versions;
+    private final TaskReadCache readCache;
+    private final TaskEventPublisher events;
+    private final TaskSearchIndex searchIndex;
+
+    public Page<Task> list(String userId, TaskFilterDTO filter, Pageable pageable) {
+        return list(userId, filter, pageable, TaskFields.ALL);
+    }
 
-    public Page<Task> list(String userId, Boolean completed, String priority, Pageable pageable) {
-        Priority priorityEnum = null;
-        if (priority != null && !priority.isBlank()) {
-            try {
-                priorityEnum = Priority.valueOf(priority.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new BadRequestException("Invalid priority: " + priority);
-            }
-        }
+    // Con una proyección las tareas sólo traen los campos pedidos
+    public Page<Task> list(String userId, TaskFilterDTO filter, Pageable pageable, TaskFields fields) {
+        TaskFilter taskFilter = toFilter(filter);
+        return readCache.get(userId, TaskReadCache.Query.list(taskFilter, pageable, fields),
+                () -> repository.findFiltered(userId, taskFilter, pageable, fields));
+    }
+
+    public TaskSliceDTO<Task> listSlice(String userId, TaskFilterDTO filter, String cursor, int size,
+            boolean includeTotal) {
+        return listSlice(userId, filter, cursor, size, includeTotal, TaskFields.ALL);
+    }
+
+    public TaskSliceDTO<Task> listSlice(String userId, TaskFilterDTO filter, String cursor, int size,
+            boolean includeTotal, TaskFields fields) {
+        TaskFilter taskFilter = toFilter(filter);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+
+        // El cursor se construye con taskDate aunque el cliente no lo pida
+        Slice<Task> slice = repository.findSlice(userId, taskFilter, after, limit, fields.with("taskDate"));
 
-        if (completed != null && priorityEnum != null) {
-            return repository.findByUserIdAndCompletedAndPriority(userId, completed, priorityEnum, pageable);
-        } else if (completed != null) {
-            return repository.findByUserIdAndCompleted(userId, completed, pageable);
-        } else if (priorityEnum != null) {
-            return repository.findByUserIdAndPriority(userId, priorityEnum, pageable);
-        } else {
-            return repository.findByUserId(userId, pageable);
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Task last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new TaskCursor(last.getTaskDate(), last.getId()).encode();
         }
+
+        return TaskSliceDTO.<Task>builder()
+                .content(slice.getContent())
+                .size(slice.getNumberOfElements())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? repository.countFiltered(userId, taskFilter) : null)
+                .build();
     }
 
     public Page<Task> listToday(String userId, Pageable pageable) {
         String today = LocalDate.now().toString();
-        return repository.findByUserIdAndTaskDate(userId, today, pageable);
+        return readCache.get(userId, TaskReadCache.Query.today(pageable, today),
+                () -> repository.findByUserIdAndTaskDate(userId, today, pageable));
     }
 
-    public Task create(TaskRequestDTO dto, String userId) {
-        Task task = Task.builder()
-                .title(dto.getTitle())
-                .description(dto.getDescription())
-                .taskDate(dto.getTaskDate())
-                .priority(dto.getPriority())
-                .repeatDays(dto.getRepeatDays())
-                .userId(userId)
-                .build();
-
-        return repository.save(task);
+    public List<Task> search(String userId, String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("'q' must not be blank");
+        }
+        if (query.length() > MAX_SEARCH_LENGTH) {
+            throw new BadRequestException("'q' cannot exceed " + MAX_SEARCH_LENGTH + " characters");
+        }
+        return searchIndex.search(userId, query.strip(), Math.max(1, Math.min(size, MAX_SEARCH_SIZE)));
     }
 
-    public Task update(String id, TaskRequestDTO dto, String userId) {
-        Task task = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    public TaskStats stats(String userId) {
+        return repository.stats(userId, LocalDate.now().toString());
+    }
 
-        if (!task.getUserId().equals(userId)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
+    public List<TaskOccurrence> calendar(String userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw new BadRequestException("Calendar range cannot exceed " + MAX_CALENDAR_DAYS + " days");
         }
 
-        task.setTitle(dto.getTitle());
-        task.setDescription(dto.getDescription());
-        task.setTaskDate(dto.getTaskDate());
-        task.setPriority(dto.getPriority());
-        task.setRepeatDays(dto.getRepeatDays());
-        return repository.save(task);
+        List<Task> candidates = repository.findCalendarCandidates(userId, from.toString(), to.toString());
+        return recurrenceEngine.expand(candidates, from, to);
     }
 
-    public void delete(String id, String userId) {
-        Task task = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-
-        if (!task.getUserId().equals(userId)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
-        }
-
-        repository.deleteById(id);
+    // Las mutaciones invalidan la caché, incrementan la versión del usuario, actualizan
+    // el índice de búsqueda y notifican a los streams sólo si han modificado algo
+    public Task create(TaskRequestDTO dto, String userId) {
+        Task created = repository.save(newTask(dto, userId));
+        searchIndex.indexed(created, changed(userId));
+        events.created(created);
+        return created;
     }
 
-    public Task toggleComplete(String id, String userId, boolean completed) {
-        Task task = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    public Task update(String id, TaskRequestDTO dto, String userId) {
+        Task updated = repository.updateDetails(id, userId, changesFrom(dto))
+                .orElseThrow(() -> notFound(id));
+        searchIndex.indexed(updated, changed(userId));
+        events.updated(updated);
+        return updated;
+    }
 
-        if (!task.getUserId().equals(userId)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
+    public void delete(String id, String userId) {
+        if (repository.deleteByIdAndUserId(id, userId) == 0) {
+            throw notFound(id);
         }
+        searchIndex.removed(userId, id, changed(userId));
+        events.deleted(userId, id);
+    }
 
-        task.setCompleted(completed);
-        return repository.save(task);
+    public Task toggleComplete(String id, String userId, boolean completed) {
+        Task updated = repository.updateCompleted(id, userId, completed)
+                .orElseThrow(() -> notFound(id));
+        searchIndex.indexed(updated, changed(userId));
+        events.updated(updated);
+        return updated;
     }
 
     public Task excludeDate(String id, String userId, String date) {
-        Task task = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        Task updated = repository.addExcludedDate(id, userId, date)
+                .orElseThrow(() -> notFound(id));
+        searchIndex.indexed(updated, changed(userId));
+        events.updated(updated);
+        return updated;
+    }
+
+    // Devuelve la versión nueva de las tareas del usuario
+    private long changed(String userId) {
+        readCache.invalidate(userId);
+        return versions.bump(userId);
+    }
 
-        if (!task.getUserId().equals(userId)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
+    /**
+     * Traduce los parámetros de consulta del listado al filtro del repositorio.
+     * También lo usa el controlador de taskify-reactive.
+     */
+    public static TaskFilter toFilter(TaskFilterDTO dto) {
+        if (dto == null) {
+            return TaskFilter.NONE;
+        }
+        if (dto.getFrom() != null && dto.getTo() != null && dto.getFrom().isAfter(dto.getTo())) {
+            throw new BadRequestException("'from' must not be after 'to'");
         }
 
-        if (!task.getExcludedDates().contains(date)) {
-            task.getExcludedDates().add(date);
+        return TaskFilter.builder()
+                .completed(dto.getCompleted())
+                .priority(parsePriority(dto.getPriority()))
+                .dateFrom(dto.getFrom() == null ? null : dto.getFrom().toString())
+                .dateTo(dto.getTo() == null ? null : dto.getTo().toString())
+                .hasRecurrence(dto.getHasRecurrence())
+                .titlePrefix(dto.getTitle() == null || dto.getTitle().isBlank() ? null : dto.getTitle())
+                .build();
+    }
+
+    private static Priority parsePriority(String priority) {
+        if (priority == null || priority.isBlank()) {
+            return null;
+        }
+        try {
+            return Priority.valueOf(priority.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid priority: " + priority);
         }
-        return repository.save(task);
+    }
+
+    static Task newTask(TaskRequestDTO dto, String userId) {
+        return Task.builder()
+                .title(dto.getTitle())
+                .description(dto.getDescription())
+                .taskDate(dto.getTaskDate())
+                .priority(dto.getPriority())
+                .repeatDays(dto.getRepeatDays())
+                .repeatMask(WeekdayMask.of(dto.getRepeatDays()))
+                .userId(userId)
+                .build();
+    }
+
+    static Task changesFrom(TaskRequestDTO dto) {
+        return Task.builder()
+                .title(dto.getTitle())
+                .description(dto.getDescription())
+                .taskDate(dto.getTaskDate())
+                .priority(dto.getPriority())
+                .repeatDays(dto.getRepeatDays())
+                .repeatMask(WeekdayMask.of(dto.getRepeatDays()))
+                .build();
+    }
+
+    private ResourceNotFoundException notFound(String id) {
+        return new ResourceNotFoundException("Task not found with id: " + id);
     }
 }
@@ -0,0 +1,51 @@
+package com.taskify.task.service;
+
+import com.taskify.task.model.TaskVersion;
+import com.taskify.task.repository.TaskVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Versión por usuario de su colección de tareas. La guarda Mongo para que todas
+ * las instancias vean el mismo valor: un 304 nunca oculta un cambio hecho en otra.
+ *
+ * Dentro de una petición la versión se lee una sola vez (ETag del controlador y
+ * {@link TaskReadCache} comparten la lectura).
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskVersionService {
+
+    private static final String REQUEST_ATTRIBUTE = TaskVersionService.class.getName() + ".";
+
+    private final TaskVersionRepository repository;
+
+    public long current(String userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(REQUEST_ATTRIBUTE + userId, RequestAttributes.SCOPE_REQUEST) instanceof Long version) {
+            return version;
+        }
+
+        long version = repository.findById(userId)
+                .map(TaskVersion::getVersion)
+                .orElse(0L);
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE + userId, version, RequestAttributes.SCOPE_REQUEST);
+        }
+        return version;
+    }
+
+    // Devuelve la versión nueva
+    public long bump(String userId) {
+        long version = repository.increment(userId);
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(REQUEST_ATTRIBUTE + userId, RequestAttributes.SCOPE_REQUEST);
+        }
+        return version;
+    }
+}
@@ -0,0 +1,166 @@
+package com.taskify.task.stream;
+
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import com.taskify.task.model.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fuente de {@link TaskEvent} para despliegues con varias instancias: escucha
+ * el change stream de la colección de tareas, de modo que cada nodo reparte a
+ * sus conexiones los cambios hechos en cualquiera de ellos.
+ *
+ * Requiere un replica set. Para enrutar los borrados (que sólo traen el _id)
+ * usa la pre-imagen del documento, que se activa al arrancar con collMod
+ * (MongoDB 6.0+); sin ella los borrados no se notifican.
+ * Se activa con {@code tasks.stream.source=change-stream}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.stream.source", havingValue = TaskChangeStreamSource.SOURCE)
+public class TaskChangeStreamSource implements SmartLifecycle {
+
+    static final String SOURCE = "change-stream";
+
+    private static final long RETRY_DELAY_MS = 5000;
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskEventBus bus;
+
+    private volatile boolean running;
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+    private BsonDocument resumeToken;
+    private Thread worker;
+
+    public TaskChangeStreamSource(MongoTemplate mongoTemplate, TaskEventBus bus) {
+        this.mongoTemplate = mongoTemplate;
+        this.bus = bus;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("task-change-stream").start(this::watch);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        MongoChangeStreamCursor<?> current = cursor;
+        if (current != null) {
+            current.close();
+        }
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watch() {
+        String collection = mongoTemplate.getCollectionName(Task.class);
+        enablePreImages(collection);
+
+        while (running) {
+            boolean received = false;
+            try {
+                ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(collection)
+                        .watch(List.of(Aggregates.match(
+                                Filters.in("operationType", "insert", "update", "replace", "delete"))))
+                        .fullDocument(FullDocument.UPDATE_LOOKUP)
+                        .fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
+                if (resumeToken != null) {
+                    stream = stream.resumeAfter(resumeToken);
+                }
+
+                try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> opened = stream.cursor()) {
+                    cursor = opened;
+                    while (running) {
+                        ChangeStreamDocument<Document> change = opened.next();
+                        received = true;
+                        resumeToken = change.getResumeToken();
+                        dispatch(change);
+                    }
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                // Si falla sin recibir nada, el resume token puede haber caducado
+                if (!received) {
+                    resumeToken = null;
+                }
+                log.warn("Task change stream interrupted, retrying in {} ms: {}", RETRY_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(ChangeStreamDocument<Document> change) {
+        String taskId = id(change.getDocumentKey());
+        switch (change.getOperationType()) {
+            case INSERT, UPDATE, REPLACE -> {
+                Document document = change.getFullDocument();
+                // El documento puede haberse borrado antes del lookup
+                if (document == null || !bus.hasSubscribers(document.getString("userId"))) {
+                    return;
+                }
+                Task task = mongoTemplate.getConverter().read(Task.class, document);
+                bus.publish(change.getOperationType() == OperationType.INSERT
+                        ? TaskEvent.created(task)
+                        : TaskEvent.updated(task));
+            }
+            case DELETE -> {
+                Document before = change.getFullDocumentBeforeChange();
+                if (before != null && taskId != null) {
+                    bus.publish(TaskEvent.deleted(before.getString("userId"), taskId));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void enablePreImages(String collection) {
+        try {
+            if (!mongoTemplate.collectionExists(collection)) {
+                mongoTemplate.createCollection(collection);
+            }
+            mongoTemplate.executeCommand(new Document("collMod", collection)
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+        } catch (RuntimeException e) {
+            log.warn("Could not enable change stream pre-images on '{}'; deletions will not be streamed: {}",
+                    collection, e.getMessage());
+        }
+    }
+
+    private static String id(BsonDocument documentKey) {
+        BsonValue id = documentKey == null ? null : documentKey.get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskify.task.stream;
+
+import com.taskify.task.model.Task;
+
+/**
+ * Cambio en una tarea de un usuario. {@code task} es null en los borrados y en
+ * las modificaciones de las que no se tiene el documento (operaciones en lote):
+ * el cliente debe volver a leer esa tarea.
+ */
+public record TaskEvent(Type type, String userId, String taskId, Task task) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static TaskEvent created(Task task) {
+        return new TaskEvent(Type.CREATED, task.getUserId(), task.getId(), task);
+    }
+
+    public static TaskEvent updated(Task task) {
+        return new TaskEvent(Type.UPDATED, task.getUserId(), task.getId(), task);
+    }
+
+    public static TaskEvent updated(String userId, String taskId) {
+        return new TaskEvent(Type.UPDATED, userId, taskId, null);
+    }
+
+    public static TaskEvent deleted(String userId, String taskId) {
+        return new TaskEvent(Type.DELETED, userId, taskId, null);
+    }
+}
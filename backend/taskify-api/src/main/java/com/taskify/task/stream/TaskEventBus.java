@@ -0,0 +1,218 @@
+package com.taskify.task.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.exception.ServiceUnavailableException;
+import com.taskify.task.dto.TaskEventDTO;
+import com.taskify.task.dto.TaskResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reparto en proceso de {@link TaskEvent} a las conexiones SSE de cada usuario.
+ *
+ * Cada suscriptor tiene un buffer acotado que vacía un hilo virtual propio
+ * mientras haya eventos pendientes, así un cliente lento no frena a quien
+ * publica ni a los demás. Si su buffer se llena la conexión se cierra: el
+ * cliente reconecta y vuelve a cargar la lista. Cada {@code tasks.stream.heartbeat}
+ * se envía un comentario para que proxies y balanceadores no corten la conexión.
+ *
+ * Mientras está inactiva, una conexión no ocupa ningún hilo (petición asíncrona).
+ */
+@Component
+public class TaskEventBus {
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxPerUser;
+    private final long timeoutMillis;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats;
+    private final AtomicInteger open = new AtomicInteger();
+    private final Counter overflows;
+
+    public TaskEventBus(ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.stream.buffer-size:256}") int bufferSize,
+            @Value("${tasks.stream.max-subscribers-per-user:5}") int maxPerUser,
+            @Value("${tasks.stream.timeout:30m}") Duration timeout,
+            @Value("${tasks.stream.heartbeat:15s}") Duration heartbeat) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxPerUser = maxPerUser;
+        this.timeoutMillis = timeout.toMillis();
+
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeats.scheduleAtFixedRate(this::heartbeat,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("taskify.task.stream.subscribers", open, AtomicInteger::get)
+                .description("Conexiones SSE abiertas")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("taskify.task.stream.overflows")
+                .description("Conexiones cerradas por llenar su buffer")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        // Dentro de compute para no añadir a un conjunto que remove() acaba de descartar
+        subscribers.compute(userId, (id, userSubscribers) -> {
+            Set<Subscriber> current = userSubscribers == null ? ConcurrentHashMap.newKeySet() : userSubscribers;
+            if (current.size() >= maxPerUser) {
+                throw new ServiceUnavailableException("Too many open task streams");
+            }
+            current.add(subscriber);
+            return current;
+        });
+        open.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        // Primer envío: fija el reintento del EventSource y manda las cabeceras al cliente
+        offer(subscriber, SseEmitter.event().reconnectTime(3000).comment("connected").build());
+        return emitter;
+    }
+
+    public boolean hasSubscribers(String userId) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        return userSubscribers != null && !userSubscribers.isEmpty();
+    }
+
+    public void publish(TaskEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+        if (userSubscribers == null || userSubscribers.isEmpty()) {
+            return;
+        }
+
+        // Se serializa una vez por evento, no una por suscriptor
+        Set<DataWithMediaType> items = SseEmitter.event()
+                .name(event.type().name().toLowerCase(Locale.ROOT))
+                .data(toJson(event))
+                .build();
+        for (Subscriber subscriber : userSubscribers) {
+            offer(subscriber, items);
+        }
+    }
+
+    int subscriberCount(String userId) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        return userSubscribers == null ? 0 : userSubscribers.size();
+    }
+
+    private String toJson(TaskEvent event) {
+        TaskEventDTO dto = TaskEventDTO.builder()
+                .type(event.type().name())
+                .id(event.taskId())
+                .task(event.task() == null ? null : TaskResponseDTO.from(event.task()))
+                .build();
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize task event", e);
+        }
+    }
+
+    private void heartbeat() {
+        Set<DataWithMediaType> items = SseEmitter.event().comment("heartbeat").build();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(s -> offer(s, items)));
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> items) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(items)) {
+            overflows.increment();
+            close(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<DataWithMediaType> items;
+            while ((items = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(items);
+                } catch (IOException | IllegalStateException e) {
+                    // Cliente desconectado o emisor ya completado
+                    remove(subscriber);
+                    subscriber.queue.clear();
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        open.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(this::close));
+        senders.shutdownNow();
+    }
+
+    private static final class Subscriber {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(String userId, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskify.task.stream;
+
+import com.taskify.task.model.Task;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Punto por el que TaskService y TaskBatchService notifican sus mutaciones.
+ *
+ * Con {@code tasks.stream.source=local} (una sola instancia) los eventos pasan
+ * directamente a {@link TaskEventBus}. Con {@code change-stream} se ignoran
+ * aquí: {@link TaskChangeStreamSource} los recibe de Mongo en todas las
+ * instancias, incluidas las escrituras hechas por ésta.
+ */
+@Component
+public class TaskEventPublisher {
+
+    private final TaskEventBus bus;
+    private final boolean local;
+
+    public TaskEventPublisher(TaskEventBus bus, @Value("${tasks.stream.source:local}") String source) {
+        this.bus = bus;
+        this.local = !TaskChangeStreamSource.SOURCE.equals(source);
+    }
+
+    public void created(Task task) {
+        publish(TaskEvent.created(task));
+    }
+
+    public void updated(Task task) {
+        publish(TaskEvent.updated(task));
+    }
+
+    public void updated(String userId, String taskId) {
+        publish(TaskEvent.updated(userId, taskId));
+    }
+
+    public void deleted(String userId, String taskId) {
+        publish(TaskEvent.deleted(userId, taskId));
+    }
+
+    private void publish(TaskEvent event) {
+        if (local) {
+            bus.publish(event);
+        }
+    }
+}
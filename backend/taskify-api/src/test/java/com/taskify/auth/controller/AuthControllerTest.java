@@ -8,6 +8,7 @@ import com.taskify.auth.dto.RegisterRequest;
 import com.taskify.auth.jwt.JwtFilter;
 import com.taskify.auth.service.AuthService;
 import com.taskify.exception.BadRequestException;
+import com.taskify.ratelimit.RateLimitFilter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -41,6 +42,9 @@ class AuthControllerTest {
         @MockBean
         private JwtFilter jwtFilter;
 
+        @MockBean
+        private RateLimitFilter rateLimitFilter;
+
         @MockBean
         private UserDetailsService userDetailsService;
 
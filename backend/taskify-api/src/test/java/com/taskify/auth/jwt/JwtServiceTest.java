@@ -0,0 +1,78 @@
+package com.taskify.auth.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(null, 100);
+    }
+
+    @Test
+    void verify_ValidToken_ReturnsSubject() {
+        String token = jwtService.generateToken("test@example.com");
+
+        assertEquals(Optional.of("test@example.com"), jwtService.verify(token));
+        assertEquals(Optional.of("test@example.com"), jwtService.verify(token));
+    }
+
+    @Test
+    void verify_TamperedToken_ReturnsEmpty() {
+        String token = jwtService.generateToken("test@example.com");
+
+        assertTrue(jwtService.verify(token + "x").isEmpty());
+        assertTrue(jwtService.verify("not-a-jwt").isEmpty());
+    }
+
+    @Test
+    void constructor_ShortSecret_FailsWithClearMessage() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> new JwtService("too-short", 100));
+
+        assertTrue(error.getMessage().contains("at least 32 bytes"));
+        assertNotNull(new JwtService("0123456789abcdef0123456789abcdef", 100).generateToken("test@example.com"));
+    }
+
+    @Test
+    void verify_TokenFromOtherKey_ReturnsEmpty() {
+        String foreign = new JwtService(null, 100).generateToken("test@example.com");
+
+        assertFalse(jwtService.isTokenValid(foreign));
+    }
+
+    @Test
+    void verify_SharedSecret_AcceptsTokensFromOtherInstance() {
+        String secret = "0123456789abcdef0123456789abcdef";
+        String token = new JwtService(secret, 100).generateToken("test@example.com");
+
+        assertEquals(Optional.of("test@example.com"), new JwtService(secret, 100).verify(token));
+    }
+
+    @Test
+    void verifiedTokenCache_ExpiredEntriesAreNotServed() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token", "user", 1_000, 0);
+
+        assertEquals("user", cache.get("token", 999));
+        assertNull(cache.get("token", 1_000));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void verifiedTokenCache_StaysBounded() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        for (int i = 0; i < 100; i++) {
+            cache.put("token-" + i, "user", 10_000, 0);
+        }
+
+        assertTrue(cache.size() <= 10);
+    }
+}
@@ -6,7 +6,6 @@ import com.taskify.auth.dto.RegisterRequest;
 import com.taskify.auth.jwt.JwtService;
 import com.taskify.auth.model.RefreshToken;
 import com.taskify.exception.BadRequestException;
-import com.taskify.exception.ResourceNotFoundException;
 import com.taskify.user.model.User;
 import com.taskify.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.Instant;
 import java.util.Optional;
@@ -34,13 +30,13 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
     @Mock
     private JwtService jwtService;
     @Mock
-    private AuthenticationManager authenticationManager;
-    @Mock
     private RefreshTokenService refreshTokenService;
+    @Mock
+    private UserSecurityCache userSecurityCache;
 
     @InjectMocks
     private AuthService authService;
@@ -81,7 +77,7 @@ class AuthServiceTest {
     @Test
     void register_Success() {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
         when(jwtService.generateToken(anyString())).thenReturn("jwt-token");
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
             User savedUser = invocation.getArgument(0);
@@ -96,6 +92,7 @@ class AuthServiceTest {
         assertEquals("jwt-token", response.getToken());
         assertEquals("refresh-token-uuid", response.getRefreshToken());
         verify(userRepository).save(any(User.class));
+        verify(userSecurityCache).evict("1", "test@example.com");
         verify(refreshTokenService).createRefreshToken(anyString());
     }
 
@@ -109,9 +106,8 @@ class AuthServiceTest {
 
     @Test
     void login_Success() {
-        when(authenticationManager.authenticate(any())).thenReturn(
-                new UsernamePasswordAuthenticationToken(authRequest.getEmail(), authRequest.getPassword()));
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(userSecurityCache.findByEmail("test@example.com")).thenReturn(Optional.of(UserSecurityRecord.of(user)));
+        when(passwordHashingService.matches("password", "encodedPassword")).thenReturn(true);
         when(jwtService.generateToken(anyString())).thenReturn("jwt-token");
         when(refreshTokenService.createRefreshToken(anyString())).thenReturn(refreshToken);
 
@@ -120,28 +116,30 @@ class AuthServiceTest {
         assertNotNull(response);
         assertEquals("jwt-token", response.getToken());
         assertEquals("refresh-token-uuid", response.getRefreshToken());
+        verify(userSecurityCache, times(1)).findByEmail("test@example.com");
     }
 
     @Test
     void login_InvalidCredentials_ThrowsBadCredentialsException() {
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenThrow(new BadCredentialsException("Invalid credentials"));
+        when(userSecurityCache.findByEmail("test@example.com")).thenReturn(Optional.of(UserSecurityRecord.of(user)));
+        when(passwordHashingService.matches("password", "encodedPassword")).thenReturn(false);
 
         assertThrows(BadCredentialsException.class, () -> authService.login(authRequest));
+        verify(refreshTokenService, never()).createRefreshToken(anyString());
     }
 
     @Test
-    void login_UserNotFound_ThrowsResourceNotFoundException() {
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(null);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+    void login_UserNotFound_RunsDummyHashAndThrowsBadCredentialsException() {
+        when(userSecurityCache.findByEmail(anyString())).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> authService.login(authRequest));
+        assertThrows(BadCredentialsException.class, () -> authService.login(authRequest));
+        verify(passwordHashingService).matchesDummy("password");
     }
 
     @Test
     void refresh_Success() {
         when(refreshTokenService.verifyRefreshToken("refresh-token-uuid")).thenReturn(refreshToken);
-        when(userRepository.findById("1")).thenReturn(Optional.of(user));
+        when(userSecurityCache.findById("1")).thenReturn(Optional.of(UserSecurityRecord.of(user)));
         when(jwtService.generateToken("test@example.com")).thenReturn("new-jwt-token");
 
         AuthResponse response = authService.refresh("refresh-token-uuid");
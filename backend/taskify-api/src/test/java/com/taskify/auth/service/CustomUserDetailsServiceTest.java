@@ -1,11 +1,11 @@
 package com.taskify.auth.service;
 
-import com.taskify.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -18,25 +18,22 @@ import static org.mockito.Mockito.*;
 class CustomUserDetailsServiceTest {
 
     @Mock
-    private UserRepository userRepository;
+    private UserSecurityCache userSecurityCache;
 
     private CustomUserDetailsService customUserDetailsService;
 
     @BeforeEach
     void setUp() {
-        customUserDetailsService = new CustomUserDetailsService(userRepository);
+        customUserDetailsService = new CustomUserDetailsService(userSecurityCache);
     }
 
     @Test
     void loadUserByUsername_UserExists_ReturnsUserDetails() {
         String email = "test@example.com";
         String password = "password";
-        com.taskify.user.model.User user = com.taskify.user.model.User.builder()
-                .email(email)
-                .password(password)
-                .build();
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(userSecurityCache.findByEmail(email))
+                .thenReturn(Optional.of(new UserSecurityRecord("1", email, password)));
 
         UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
 
@@ -45,10 +42,21 @@ class CustomUserDetailsServiceTest {
         assertEquals(password, userDetails.getPassword());
     }
 
+    @Test
+    void loadUserByUsername_ReturnsFreshInstanceEachTime() {
+        when(userSecurityCache.findByEmail("test@example.com"))
+                .thenReturn(Optional.of(new UserSecurityRecord("1", "test@example.com", "password")));
+
+        UserDetails first = customUserDetailsService.loadUserByUsername("test@example.com");
+        ((CredentialsContainer) first).eraseCredentials();
+
+        assertEquals("password", customUserDetailsService.loadUserByUsername("test@example.com").getPassword());
+    }
+
     @Test
     void loadUserByUsername_UserNotFound_ThrowsException() {
         String email = "nonexistent@example.com";
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(userSecurityCache.findByEmail(email)).thenReturn(Optional.empty());
 
         assertThrows(UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByUsername(email));
     }
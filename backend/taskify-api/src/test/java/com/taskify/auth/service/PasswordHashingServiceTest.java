@@ -0,0 +1,90 @@
+package com.taskify.auth.service;
+
+import com.taskify.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_RunOnPool() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(4), registry, 2, 4, Duration.ofSeconds(5));
+
+        String hash = service.encode("secret");
+
+        assertTrue(service.matches("secret", hash));
+        assertFalse(service.matches("other", hash));
+        assertDoesNotThrow(() -> service.matchesDummy("secret"));
+        assertNotNull(registry.find("executor.queued").tag("name", "password-hash").gauge());
+    }
+
+    @Test
+    void saturatedPool_RejectsImmediatelyWith503() throws Exception {
+        service = new PasswordHashingService(blockingEncoder(), registry, 1, 1, Duration.ofSeconds(5));
+
+        // Uno ocupa el único hilo y otro la única posición de la cola
+        CompletableFuture.runAsync(() -> service.encode("a"));
+        CompletableFuture.runAsync(() -> service.encode("b"));
+        waitForQueued(1);
+
+        long start = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> service.encode("c"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertEquals(1.0, registry.get("taskify.password.rejected").counter().count());
+    }
+
+    @Test
+    void slowHash_TimesOutWith503() {
+        service = new PasswordHashingService(blockingEncoder(), registry, 1, 1, Duration.ofMillis(50));
+
+        assertThrows(ServiceUnavailableException.class, () -> service.encode("a"));
+    }
+
+    private void waitForQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (registry.get("executor.queued").gauge().value() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package com.taskify.auth.service;
+
+import com.taskify.auth.model.RefreshToken;
+import com.taskify.auth.repository.RefreshTokenRepository;
+import com.taskify.exception.BadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, new SimpleMeterRegistry(), 100,
+                Duration.ofSeconds(30));
+    }
+
+    @Test
+    void createRefreshToken_StoresOnlyTheHash() {
+        when(refreshTokenRepository.replaceForUser(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        RefreshToken created = refreshTokenService.createRefreshToken("user-1");
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).replaceForUser(captor.capture());
+        assertNotNull(created.getToken());
+        assertEquals(RefreshTokenService.hash(created.getToken()), captor.getValue().getTokenHash());
+        assertNotEquals(created.getToken(), captor.getValue().getTokenHash());
+        assertTrue(captor.getValue().getExpiryDate().isAfter(Instant.now()));
+    }
+
+    @Test
+    void verifyRefreshToken_SecondCallServedFromCache() {
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw"))).thenReturn(Optional.of(stored(3600)));
+
+        RefreshToken first = refreshTokenService.verifyRefreshToken("raw");
+        RefreshToken second = refreshTokenService.verifyRefreshToken("raw");
+
+        assertEquals("user-1", first.getUserId());
+        assertEquals("raw", second.getToken());
+        verify(refreshTokenRepository, times(1)).findByTokenHash(any());
+    }
+
+    @Test
+    void verifyRefreshToken_AfterLogoutQueriesAgain() {
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw")))
+                .thenReturn(Optional.of(stored(3600)))
+                .thenReturn(Optional.empty());
+
+        refreshTokenService.verifyRefreshToken("raw");
+        refreshTokenService.deleteByUserId("user-1");
+
+        assertThrows(BadRequestException.class, () -> refreshTokenService.verifyRefreshToken("raw"));
+        verify(refreshTokenRepository).deleteByUserId("user-1");
+    }
+
+    @Test
+    void verifyRefreshToken_LogoutDuringLoad_IsNotCached() {
+        // El logout llega entre la lectura de Mongo y el alta en la caché
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw")))
+                .thenAnswer(inv -> {
+                    refreshTokenService.deleteByUserId("user-1");
+                    return Optional.of(stored(3600));
+                })
+                .thenReturn(Optional.empty());
+
+        refreshTokenService.verifyRefreshToken("raw");
+
+        assertThrows(BadRequestException.class, () -> refreshTokenService.verifyRefreshToken("raw"));
+        verify(refreshTokenRepository, times(2)).findByTokenHash(any());
+    }
+
+    @Test
+    void logout_InvalidatesCacheAfterDeleting() {
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw"))).thenReturn(Optional.of(stored(3600)));
+        refreshTokenService.verifyRefreshToken("raw");
+
+        // Una verificación durante el borrado aún ve la entrada; después ya no
+        doAnswer(inv -> {
+            refreshTokenService.verifyRefreshToken("raw");
+            return null;
+        }).when(refreshTokenRepository).deleteByUserId("user-1");
+        refreshTokenService.deleteByUserId("user-1");
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+
+        assertThrows(BadRequestException.class, () -> refreshTokenService.verifyRefreshToken("raw"));
+    }
+
+    @Test
+    void verifyRefreshToken_Expired_ThrowsBadRequestException() {
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(stored(-10)));
+
+        assertThrows(BadRequestException.class, () -> refreshTokenService.verifyRefreshToken("raw"));
+    }
+
+    @Test
+    void verifyRefreshToken_Unknown_ThrowsBadRequestException() {
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+
+        assertThrows(BadRequestException.class, () -> refreshTokenService.verifyRefreshToken("nope"));
+    }
+
+    private RefreshToken stored(long secondsToExpiry) {
+        return RefreshToken.builder()
+                .id("rt-1")
+                .tokenHash(RefreshTokenService.hash("raw"))
+                .userId("user-1")
+                .expiryDate(Instant.now().plusSeconds(secondsToExpiry))
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskify.auth.service;
+
+import com.taskify.user.model.User;
+import com.taskify.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSecurityCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry registry;
+    private UserSecurityCache cache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new UserSecurityCache(userRepository, registry, 100, Duration.ofMinutes(5));
+        user = User.builder().id("1").email("test@example.com").password("hash").build();
+    }
+
+    @Test
+    void findByEmail_SecondLookupIsAHit() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+        cache.findByEmail("test@example.com");
+        UserSecurityRecord record = cache.findByEmail("test@example.com").orElseThrow();
+
+        assertEquals("hash", record.password());
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "user.security.by-email").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void findById_ServedFromRecordLoadedByEmail() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+        cache.findByEmail("test@example.com");
+
+        assertEquals("test@example.com", cache.findById("1").orElseThrow().email());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void evictById_RemovesBothIndexes() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findById("1")).thenReturn(Optional.empty());
+
+        cache.findByEmail("test@example.com");
+        cache.evictById("1");
+
+        assertTrue(cache.findById("1").isEmpty());
+        cache.findByEmail("test@example.com");
+        verify(userRepository, times(2)).findByEmail("test@example.com");
+    }
+
+    @Test
+    void unknownEmail_IsNotCached() {
+        when(userRepository.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+        cache.findByEmail("nobody@example.com");
+        cache.findByEmail("nobody@example.com");
+
+        verify(userRepository, times(2)).findByEmail("nobody@example.com");
+    }
+}
@@ -0,0 +1,200 @@
+package com.taskify.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskify.TaskifyApiApplication;
+import com.taskify.auth.jwt.JwtService;
+import com.taskify.memory.InMemoryTaskRepository;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskFields;
+import com.taskify.task.repository.TaskFilter;
+import com.taskify.task.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara el modo de hilos de plataforma con el de hilos virtuales levantando
+ * la aplicación completa (Tomcat + seguridad + JWT) dos veces con el perfil
+ * inmemory. El listado de tareas bloquea el hilo el tiempo de una consulta a
+ * Mongo, de modo que el cuello de botella es el modelo de hilos. Falla si
+ * alguna petición no responde 200: un resultado con errores no es comparable.
+ *
+ * mvn test -Dtest=ExecutionModeBenchmark -Dbenchmark=true
+ *     [-Dbenchmark.concurrency=1000] [-Dbenchmark.seconds=15] [-Dbenchmark.latencyMs=20]
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExecutionModeBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 15);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmupSeconds", 3);
+    private static final long LATENCY_MS = Long.getLong("benchmark.latencyMs", 20);
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("concurrency", CONCURRENCY);
+        results.put("durationSeconds", SECONDS);
+        results.put("simulatedMongoLatencyMs", LATENCY_MS);
+        results.put("platform", run(false));
+        results.put("virtual", run(true));
+
+        File output = new File("target/benchmarks/execution-mode.json");
+        output.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, results);
+        log.info("Execution mode benchmark written to {}: {}", output, results);
+    }
+
+    private Map<String, Object> run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                TaskifyApiApplication.class, BlockingRepositoryConfig.class)
+                .profiles("inmemory")
+                .run("--server.port=0",
+                        "--management.server.port=-1",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        // Cada petición debe llegar al repositorio bloqueante
+                        "--tasks.cache.enabled=false",
+                        "--ratelimit.enabled=false",
+                        "--logging.level.root=WARN")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String token = context.getBean(JwtService.class).generateToken("bench@example.com");
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks"))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            load(request, WARMUP_SECONDS);
+            Map<String, Object> result = load(request, SECONDS);
+            assertEquals(0L, result.get("errors"), () -> (virtualThreads ? "virtual" : "platform")
+                    + " mode had failed requests: " + result);
+            return result;
+        }
+    }
+
+    private Map<String, Object> load(HttpRequest request, int seconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        AtomicLong errors = new AtomicLong();
+        Map<Integer, AtomicLong> errorStatuses = new ConcurrentHashMap<>();
+        List<Future<long[]>> perWorker = new ArrayList<>();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                perWorker.add(workers.submit(() -> {
+                    // Crece según hace falta: reservar de antemano para el peor caso no cabe en el heap
+                    long[] samples = new long[1024];
+                    int n = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                errorStatuses.computeIfAbsent(response.statusCode(), k -> new AtomicLong())
+                                        .incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            errorStatuses.computeIfAbsent(0, k -> new AtomicLong()).incrementAndGet();
+                            continue;
+                        }
+                        if (n == samples.length) {
+                            samples = Arrays.copyOf(samples, n * 2);
+                        }
+                        samples[n++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(samples, n);
+                }));
+            }
+        }
+
+        List<long[]> samples = new ArrayList<>();
+        for (Future<long[]> worker : perWorker) {
+            samples.add(worker.get());
+        }
+        int total = samples.stream().mapToInt(s -> s.length).sum();
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (long[] worker : samples) {
+            System.arraycopy(worker, 0, latencies, offset, worker.length);
+            offset += worker.length;
+        }
+        Arrays.sort(latencies);
+        assertTrue(total > 0, "No successful requests");
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", total);
+        result.put("errors", errors.get());
+        // Estado HTTP de los errores; 0 = sin respuesta (timeout, conexión)
+        result.put("errorStatuses", new TreeMap<>(errorStatuses));
+        result.put("throughputPerSecond", total / (double) seconds);
+        result.put("p50Ms", percentile(latencies, 0.50));
+        result.put("p95Ms", percentile(latencies, 0.95));
+        result.put("p99Ms", percentile(latencies, 0.99));
+        result.put("maxMs", latencies[latencies.length - 1] / 1_000_000.0);
+        return result;
+    }
+
+    private double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    @Configuration
+    static class BlockingRepositoryConfig {
+
+        // El repositorio en memoria completo con la latencia de Mongo en el listado: cualquier
+        // otra llamada que añada la API sigue funcionando sin tocar el benchmark
+        @Bean
+        @Primary
+        TaskRepository blockingTaskRepository() {
+            return new InMemoryTaskRepository() {
+                @Override
+                public Page<Task> findFiltered(String userId, TaskFilter filter, Pageable pageable, TaskFields fields) {
+                    try {
+                        Thread.sleep(LATENCY_MS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return super.findFiltered(userId, filter, pageable, fields);
+                }
+            };
+        }
+    }
+}
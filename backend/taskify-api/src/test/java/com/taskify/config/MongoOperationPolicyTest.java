@@ -0,0 +1,91 @@
+package com.taskify.config;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MongoOperationPolicyTest {
+
+    @Test
+    void emptyValues_InheritClientDefaults() {
+        MongoOperationPolicy policy = new MongoOperationPolicy("", "");
+
+        assertNull(policy.readPreference(MongoOperationClass.SEARCH));
+        assertNull(policy.writeConcern(MongoOperationClass.TOGGLE));
+        assertNull(policy.applyTo(new Query(), MongoOperationClass.SEARCH).getReadPreference());
+    }
+
+    @Test
+    void configuredClasses_ApplyOnlyToTheirOperations() {
+        MongoOperationPolicy policy = new MongoOperationPolicy("secondaryPreferred", "w1");
+
+        assertEquals(ReadPreference.secondaryPreferred(), policy.applyTo(new Query(), MongoOperationClass.SEARCH).getReadPreference());
+        assertNull(policy.applyTo(new Query(), MongoOperationClass.TOGGLE).getReadPreference());
+        assertEquals(WriteConcern.W1, policy.writeConcern(MongoOperationClass.TOGGLE));
+        assertNull(policy.writeConcern(MongoOperationClass.SEARCH));
+    }
+
+    @Test
+    void writeConcern_AcceptsNamesAndNodeCounts() {
+        assertEquals(WriteConcern.MAJORITY, MongoOperationPolicy.writeConcern("majority"));
+        assertEquals(new WriteConcern(2), MongoOperationPolicy.writeConcern("2"));
+        assertThrows(IllegalArgumentException.class, () -> MongoOperationPolicy.writeConcern("sometimes"));
+        assertThrows(IllegalArgumentException.class, () -> MongoOperationPolicy.readPreference("anywhere"));
+    }
+
+    @Test
+    void unacknowledgedToggle_IsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MongoOperationPolicy("", "unacknowledged"));
+        assertThrows(IllegalArgumentException.class, () -> new MongoOperationPolicy("", "0"));
+    }
+
+    @Test
+    void clientPolicy_ConfiguresPoolTimeoutsAndDefaults() {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+        new MongoConfig().mongoClientPolicy(new SimpleMeterRegistry(), 50, 5, 3,
+                        Duration.ofMillis(1500), Duration.ofMinutes(1), Duration.ofSeconds(3), Duration.ofSeconds(4),
+                        "nearest", "majority")
+                .customize(builder);
+        MongoClientSettings settings = builder.build();
+
+        assertEquals(50, settings.getConnectionPoolSettings().getMaxSize());
+        assertEquals(5, settings.getConnectionPoolSettings().getMinSize());
+        assertEquals(3, settings.getConnectionPoolSettings().getMaxConnecting());
+        assertEquals(1500, settings.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, settings.getConnectionPoolSettings().getConnectionPoolListeners().size());
+        assertEquals(3000, settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(4000, settings.getClusterSettings().getServerSelectionTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(ReadPreference.nearest(), settings.getReadPreference());
+        assertEquals(WriteConcern.MAJORITY, settings.getWriteConcern());
+    }
+
+    @Test
+    void clientPolicy_UnsetValues_KeepUriSettings() {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString("mongodb://localhost/?maxPoolSize=7&minPoolSize=1"
+                        + "&waitQueueTimeoutMS=900&connectTimeoutMS=800&serverSelectionTimeoutMS=700"
+                        + "&readPreference=secondaryPreferred&w=majority"));
+        new MongoConfig().mongoClientPolicy(new SimpleMeterRegistry(), null, null, null,
+                        null, null, null, null, "", "")
+                .customize(builder);
+        MongoClientSettings settings = builder.build();
+
+        assertEquals(7, settings.getConnectionPoolSettings().getMaxSize());
+        assertEquals(1, settings.getConnectionPoolSettings().getMinSize());
+        assertEquals(900, settings.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, settings.getConnectionPoolSettings().getConnectionPoolListeners().size());
+        assertEquals(800, settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(700, settings.getClusterSettings().getServerSelectionTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(ReadPreference.secondaryPreferred(), settings.getReadPreference());
+        assertEquals(WriteConcern.MAJORITY, settings.getWriteConcern());
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskify.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimedPasswordEncoderTest {
+
+    private SimpleMeterRegistry registry;
+    private TimedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        encoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(4), registry);
+    }
+
+    @Test
+    void encodeAndMatches_RecordTimerPerOperation() {
+        String hash = encoder.encode("secret");
+
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("other", hash));
+
+        assertEquals(1, timer("encode").count());
+        assertEquals(2, timer("matches").count());
+        assertTrue(timer("encode").totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    private Timer timer(String operation) {
+        return registry.get("taskify.password.hash").tag("operation", operation).timer();
+    }
+}
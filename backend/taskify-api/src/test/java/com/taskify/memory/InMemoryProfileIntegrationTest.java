@@ -0,0 +1,74 @@
+package com.taskify.memory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * La aplicación completa (seguridad, JWT, servicios, cachés) sobre los
+ * repositorios en memoria, sin MongoDB.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("inmemory")
+class InMemoryProfileIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void registerCreateAndListTasks() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"password\":\"secreto123\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"password\":\"secreto123\"}"))
+                .andExpect(status().isBadRequest());
+
+        String login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"ana@example.com\",\"password\":\"secreto123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode tokens = objectMapper.readTree(login);
+        String bearer = "Bearer " + tokens.get("token").asText();
+
+        for (String title : new String[] { "Comprar pan", "Llamar al médico" }) {
+            mockMvc.perform(post("/api/tasks")
+                            .header("Authorization", bearer)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"" + title + "\",\"taskDate\":\"2026-03-01\",\"priority\":\"HIGH\"}"))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/tasks").param("sort", "title,desc").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Llamar al médico"));
+        mockMvc.perform(get("/api/tasks/stats").header("Authorization", bearer))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(2));
+        mockMvc.perform(get("/api/tasks/search").param("q", "medico").header("Authorization", bearer))
+                .andExpect(jsonPath("$.length()").value(1));
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + tokens.get("refreshToken").asText() + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskify.memory;
+
+import com.taskify.task.model.Priority;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskBulkResult;
+import com.taskify.task.repository.TaskBulkWrite;
+import com.taskify.task.repository.TaskCursor;
+import com.taskify.task.repository.TaskFields;
+import com.taskify.task.repository.TaskFilter;
+import com.taskify.task.repository.TaskStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTaskRepositoryTest {
+
+    private InMemoryTaskRepository repository;
+
+    private final String userId = "user-123";
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryTaskRepository();
+        save("a", "2026-03-02", Priority.HIGH, false);
+        save("b", null, Priority.LOW, true);
+        save("c", "2026-03-01", Priority.HIGH, true);
+        save("d", "2026-03-03", Priority.MEDIUM, false);
+        save("e", "2026-03-01", Priority.LOW, false);
+        repository.save(Task.builder().id("other").userId("other-user").title("Ajena").taskDate("2026-03-01").build());
+    }
+
+    private void save(String id, String date, Priority priority, boolean completed) {
+        repository.save(Task.builder()
+                .id(id).userId(userId).title("Tarea " + id)
+                .taskDate(date).priority(priority).completed(completed)
+                .build());
+    }
+
+    private static List<String> ids(Iterable<Task> tasks) {
+        return StreamSupport.stream(tasks.spliterator(), false).map(Task::getId).toList();
+    }
+
+    @Test
+    void findSlice_WalksKeysetInDateOrderWithNullsFirst() {
+        Slice<Task> first = repository.findSlice(userId, TaskFilter.NONE, null, 3, TaskFields.ALL);
+        assertEquals(List.of("b", "c", "e"), ids(first));
+        assertTrue(first.hasNext());
+
+        Task last = first.getContent().get(2);
+        Slice<Task> second = repository.findSlice(userId, TaskFilter.NONE,
+                new TaskCursor(last.getTaskDate(), last.getId()), 3, TaskFields.ALL);
+        assertEquals(List.of("a", "d"), ids(second));
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void findSlice_CombinesIndexesAndDateRange() {
+        TaskFilter filter = TaskFilter.builder().completed(false).dateFrom("2026-03-01").dateTo("2026-03-02").build();
+
+        assertEquals(List.of("e", "a"), ids(repository.findSlice(userId, filter, null, 10, TaskFields.ALL)));
+        assertEquals(List.of("c", "a"), ids(repository.findSlice(userId,
+                TaskFilter.builder().priority(Priority.HIGH).build(), null, 10, TaskFields.ALL)));
+    }
+
+    @Test
+    void findFiltered_SortsAndPagesLikeMongo() {
+        // Los enums se ordenan por nombre y null va primero
+        Page<Task> byPriority = repository.findFiltered(userId, TaskFilter.NONE,
+                PageRequest.of(0, 3, Sort.by("priority", "id")), TaskFields.ALL);
+        assertEquals(List.of("a", "c", "b"), ids(byPriority));
+        assertEquals(5, byPriority.getTotalElements());
+
+        Page<Task> byDateDesc = repository.findFiltered(userId, TaskFilter.NONE,
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "taskDate")), TaskFields.ALL);
+        assertEquals(List.of("c", "e"), ids(byDateDesc));
+        assertEquals(3, byDateDesc.getTotalPages());
+    }
+
+    @Test
+    void findFiltered_ProjectsRequestedFields() {
+        Task task = repository.findFiltered(userId, TaskFilter.builder().titlePrefix("Tarea a").build(),
+                PageRequest.of(0, 10), TaskFields.parse("title")).getContent().get(0);
+
+        assertEquals("a", task.getId());
+        assertEquals("Tarea a", task.getTitle());
+        assertNull(task.getTaskDate());
+        assertNull(task.getPriority());
+    }
+
+    @Test
+    void updates_ReindexAndDoNotLeakStoredInstances() {
+        Task returned = repository.updateCompleted("a", userId, true).orElseThrow();
+        returned.setTitle("cambiado fuera");
+
+        assertEquals(3, repository.countFiltered(userId, TaskFilter.builder().completed(true).build()));
+        assertEquals("Tarea a", repository.findById("a").orElseThrow().getTitle());
+        assertTrue(repository.updateCompleted("a", "other-user", false).isEmpty());
+        assertTrue(repository.findById("a").orElseThrow().isCompleted());
+    }
+
+    @Test
+    void bulkWrite_ReportsDuplicateInsertsAndAppliesTheRest() {
+        TaskBulkResult result = repository.bulkWrite(List.of(
+                TaskBulkWrite.insert(Task.builder().id("a").userId(userId).title("Duplicada").build()),
+                TaskBulkWrite.insert(Task.builder().id("f").userId(userId).title("Nueva").taskDate("2026-03-04").build()),
+                TaskBulkWrite.setCompleted("d", userId, true),
+                TaskBulkWrite.delete("other", userId)));
+
+        assertEquals(List.of(0), List.copyOf(result.failures().keySet()));
+        assertTrue(result.failures().get(0).contains("duplicate key"));
+        assertEquals(Set.of(3), result.notFound());
+        assertTrue(repository.findById("f").orElseThrow().getCreatedAt() != null);
+        assertTrue(repository.findById("d").orElseThrow().isCompleted());
+        assertTrue(repository.existsById("other"));
+    }
+
+    @Test
+    void stats_CountsLikeTheAggregation() {
+        repository.save(Task.builder().id("r").userId(userId).title("Recurrente")
+                .taskDate("2026-03-01").repeatDays(List.of("MONDAY")).build());
+
+        TaskStats stats = repository.stats(userId, "2026-03-02");
+
+        assertEquals(6, stats.total());
+        assertEquals(2, stats.completed());
+        assertEquals(2, stats.byPriority().get(Priority.HIGH));
+        assertEquals(1, stats.overdue());
+        assertEquals(1, stats.today());
+        assertEquals(1, stats.upcoming());
+        assertEquals(0, stats.unscheduled());
+        assertEquals(1, stats.recurring());
+    }
+
+    @Test
+    void findCalendarCandidates_IncludesRecurringTasksStartedBeforeTheRange() {
+        repository.save(Task.builder().id("r").userId(userId).title("Recurrente")
+                .taskDate("2026-02-01").repeatDays(List.of("MONDAY")).build());
+
+        assertEquals(List.of("r", "a"), ids(repository.findCalendarCandidates(userId, "2026-03-02", "2026-03-02")));
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskify.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry, true,
+                List.of("POST /api/auth/login=2/1m", "GET /api/tasks/today=3/3s", "/api/tasks/**=100/1s"),
+                1000, now::get);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String user, String ip) throws Exception {
+        SecurityContextHolder.clearContext();
+        if (user != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void rejectsBurstOverCapacityWithRetryAfterAndRefills() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, perform("GET", "/api/tasks/today", "ana@example.com", "10.0.0.1").getStatus());
+        }
+
+        MockHttpServletResponse rejected = perform("GET", "/api/tasks/today", "ana@example.com", "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("\"status\":429"));
+        assertEquals(1.0, meterRegistry.get("taskify.ratelimit.rejected").tag("route", "GET /api/tasks/today").counter().count());
+
+        // Un token por segundo
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(200, perform("GET", "/api/tasks/today", "ana@example.com", "10.0.0.1").getStatus());
+        assertEquals(429, perform("GET", "/api/tasks/today", "ana@example.com", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void keysByUserAndRouteButAuthByIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            perform("GET", "/api/tasks/today", "ana@example.com", "10.0.0.1");
+        }
+        assertEquals(429, perform("GET", "/api/tasks/today", "ana@example.com", "10.0.0.2").getStatus());
+        assertEquals(200, perform("GET", "/api/tasks/today", "luis@example.com", "10.0.0.1").getStatus());
+        assertEquals(200, perform("GET", "/api/tasks", "ana@example.com", "10.0.0.1").getStatus());
+
+        // En /api/auth/** cuenta la IP aunque la petición traiga usuario
+        perform("POST", "/api/auth/login", "ana@example.com", "10.0.0.1");
+        perform("POST", "/api/auth/login", "luis@example.com", "10.0.0.1");
+        assertEquals(429, perform("POST", "/api/auth/login", null, "10.0.0.1").getStatus());
+        assertEquals(200, perform("POST", "/api/auth/login", null, "10.0.0.3").getStatus());
+        assertEquals(200, perform("POST", "/api/auth/register", null, "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void tokenBucketAdmitsExactlyCapacityUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(1000, TimeUnit.HOURS.toNanos(1), 0);
+        AtomicLong admitted = new AtomicLong();
+
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 500; i++) {
+                    if (bucket.tryConsume(0) == 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1000, admitted.get());
+    }
+
+    @Test
+    void parse_RejectsMalformedRules() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimitRule.parse("/api/tasks/**=10"));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitRule.parse("/api/tasks/**=0/1s"));
+        assertEquals(new RateLimitRule("GET", "/api/tasks/today", 20, java.time.Duration.ofSeconds(10)),
+                RateLimitRule.parse(" GET /api/tasks/today=20/10s "));
+    }
+}
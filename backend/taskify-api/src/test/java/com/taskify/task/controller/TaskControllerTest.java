@@ -3,10 +3,26 @@ package com.taskify.task.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskify.auth.jwt.JwtFilter;
 import com.taskify.exception.ResourceNotFoundException;
+import com.taskify.task.dto.BatchOperationDTO;
+import com.taskify.task.dto.BatchOperationType;
+import com.taskify.task.dto.BatchRequestDTO;
+import com.taskify.task.dto.BatchResultDTO;
+import com.taskify.task.dto.ImportResultDTO;
+import com.taskify.task.dto.TaskFilterDTO;
 import com.taskify.task.dto.TaskRequestDTO;
+import com.taskify.task.dto.TaskSliceDTO;
 import com.taskify.task.model.Priority;
 import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskFields;
+import com.taskify.task.repository.TaskStats;
+import com.taskify.task.recurrence.TaskOccurrence;
+import com.taskify.task.service.TaskBatchService;
+import com.taskify.task.service.TaskExportService;
+import com.taskify.task.service.TaskImportService;
 import com.taskify.task.service.TaskService;
+import com.taskify.task.service.TaskVersionService;
+import com.taskify.task.stream.TaskEventBus;
+import com.taskify.ratelimit.RateLimitFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,13 +35,22 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -43,9 +68,27 @@ class TaskControllerTest {
         @MockBean
         private TaskService taskService;
 
+        @MockBean
+        private TaskBatchService taskBatchService;
+
+        @MockBean
+        private TaskVersionService taskVersionService;
+
+        @MockBean
+        private TaskEventBus taskEventBus;
+
+        @MockBean
+        private TaskExportService taskExportService;
+
+        @MockBean
+        private TaskImportService taskImportService;
+
         @MockBean
         private JwtFilter jwtFilter;
 
+        @MockBean
+        private RateLimitFilter rateLimitFilter;
+
         @MockBean
         private UserDetailsService userDetailsService;
 
@@ -74,13 +117,210 @@ class TaskControllerTest {
         @Test
         void list_ReturnsTasks() throws Exception {
                 Page<Task> taskPage = new PageImpl<>(Arrays.asList(task));
-                when(taskService.list(eq("test@example.com"), any(), any(), any(Pageable.class))).thenReturn(taskPage);
+                when(taskService.list(eq("test@example.com"), any(), any(Pageable.class))).thenReturn(taskPage);
 
                 mockMvc.perform(get("/api/tasks").principal(() -> "test@example.com"))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.content[0].title").value("Test Task"));
         }
 
+        @Test
+        void list_ReturnsVersionETag() throws Exception {
+                when(taskVersionService.current("test@example.com")).thenReturn(7L);
+                when(taskService.list(eq("test@example.com"), any(), any(Pageable.class))).thenReturn(Page.empty());
+
+                mockMvc.perform(get("/api/tasks").principal(() -> "test@example.com"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", TaskController.etag("test@example.com", 7, null)))
+                                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                                .andExpect(header().stringValues("Vary", hasItem("Authorization")));
+        }
+
+        @Test
+        void list_OtherUsersETagWithSameVersion_DoesNotMatch() throws Exception {
+                when(taskVersionService.current("test@example.com")).thenReturn(7L);
+                when(taskService.list(eq("test@example.com"), any(), any(Pageable.class))).thenReturn(Page.empty());
+                String otherUsersEtag = TaskController.etag("other@example.com", 7, null);
+
+                assertNotEquals(TaskController.etag("test@example.com", 7, null), otherUsersEtag);
+                mockMvc.perform(get("/api/tasks").header("If-None-Match", otherUsersEtag)
+                                .principal(() -> "test@example.com"))
+                                .andExpect(status().isOk());
+        }
+
+        @Test
+        void list_MatchingIfNoneMatch_Returns304WithoutQuerying() throws Exception {
+                when(taskVersionService.current("test@example.com")).thenReturn(7L);
+
+                mockMvc.perform(get("/api/tasks").header("If-None-Match", TaskController.etag("test@example.com", 7, null))
+                                .principal(() -> "test@example.com"))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+
+                verify(taskService, never()).list(any(), any(), any());
+        }
+
+        @Test
+        void listToday_ETagIncludesDate() throws Exception {
+                when(taskVersionService.current("test@example.com")).thenReturn(3L);
+                String etag = TaskController.etag("test@example.com", 3, LocalDate.now().toString());
+
+                mockMvc.perform(get("/api/tasks/today").header("If-None-Match", etag)
+                                .principal(() -> "test@example.com"))
+                                .andExpect(status().isNotModified());
+
+                mockMvc.perform(get("/api/tasks/today").header("If-None-Match", TaskController.etag("test@example.com", 3, null))
+                                .principal(() -> "test@example.com"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", etag));
+        }
+
+        @Test
+        void list_BindsFilterParameters() throws Exception {
+                when(taskService.list(eq("test@example.com"), any(), any(Pageable.class))).thenReturn(Page.empty());
+
+                mockMvc.perform(get("/api/tasks")
+                                .param("completed", "true")
+                                .param("priority", "HIGH")
+                                .param("from", "2026-01-01")
+                                .param("title", "Gym")
+                                .principal(() -> "test@example.com"))
+                                .andExpect(status().isOk());
+
+                verify(taskService).list(eq("test@example.com"), eq(TaskFilterDTO.builder()
+                                .completed(true)
+                                .priority("HIGH")
+                                .from(LocalDate.parse("2026-01-01"))
+                                .title("Gym")
+                                .build()), any(Pageable.class));
+        }
+
+        @Test
+        void list_WithCursor_ReturnsSlice() throws Exception {
+                when(taskService.listSlice(eq("test@example.com"), any(), eq(""), eq(20), eq(false)))
+                                .thenReturn(TaskSliceDTO.<Task>builder()
+                                                .content(List.of(task))
+                                                .size(1)
+                                                .hasNext(true)
+                                                .nextCursor("next")
+                                                .build());
+
+                mockMvc.perform(get("/api/tasks").param("cursor", "").principal(() -> "test@example.com"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].title").value("Test Task"))
+                                .andExpect(jsonPath("$.nextCursor").value("next"))
+                                .andExpect(jsonPath("$.totalElements").doesNotExist());
+        }
+
+        @Test
+        void list_WithFields_ReturnsOnlyRequestedFields() throws Exception {
+                TaskFields fields = TaskFields.parse("title,completed");
+                when(taskService.list(eq("test@example.com"), any(), any(Pageable.class), eq(fields)))
+                                .thenReturn(new PageImpl<>(List.of(task)));
+
+                mockMvc.perform(get("/api/tasks").param("fields", "title,completed")
+                                .principal(() -> "test@example.com"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].id").value("task-1"))
+                                .andExpect(jsonPath("$.content[0].title").value("Test Task"))
+                                .andExpect(jsonPath("$.content[0].completed").value(false))
+                                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                                .andExpect(jsonPath("$.content[0].excludedDates").doesNotExist())
+                                .andExpect(jsonPath("$.content[0].userId").doesNotExist());
+        }
+
+        @Test
+        void list_WithUnknownField_ReturnsBadRequest() throws Exception {
+                mockMvc.perform(get("/api/tasks").param("fields", "title,userId")
+                                .principal(() -> "test@example.com"))
+                                .andExpect(status().isBadRequest());
+
+                verify(taskService, never()).list(any(), any(), any(), any());
+        }
+
+        @Test
+        void export_StreamsCsvAttachment() throws Exception {
+                doAnswer(invocation -> {
+                        invocation.<OutputStream>getArgument(2).write("id\r\n".getBytes());
+                        return null;
+                }).when(taskExportService).export(eq("test@example.com"), eq(TaskExportService.Format.CSV), any());
+
+                MvcResult result = mockMvc.perform(get("/api/tasks/export").param("format", "csv")
+                                .principal(() -> "test@example.com"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType("text/csv"))
+                                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+                                .andExpect(content().string("id\r\n"));
+        }
+
+        @Test
+        void export_UnknownFormat_ReturnsBadRequest() throws Exception {
+                mockMvc.perform(get("/api/tasks/export").param("format", "xml")
+                                .principal(() -> "test@example.com"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void import_ReturnsSummary() throws Exception {
+                when(taskImportService.importTasks(eq("test@example.com"), any()))
+                                .thenReturn(ImportResultDTO.builder().lines(2).imported(1).failed(1)
+                                                .errors(List.of(ImportResultDTO.LineError.builder()
+                                                                .line(2).message("title: must not be blank").build()))
+                                                .build());
+
+                mockMvc.perform(post("/api/tasks/import")
+                                .principal(() -> "test@example.com")
+                                .contentType("application/x-ndjson")
+                                .content("{\"title\":\"A\"}\n{\"title\":\"\"}\n"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.imported").value(1))
+                                .andExpect(jsonPath("$.errors[0].line").value(2));
+        }
+
+        @Test
+        void stats_ReturnsCountsWithDatedETag() throws Exception {
+                when(taskVersionService.current("test@example.com")).thenReturn(4L);
+                when(taskService.stats("test@example.com")).thenReturn(new TaskStats(3, 1, 2,
+                                Map.of(Priority.HIGH, 3L), 1, 1, 0, 0, 0));
+
+                mockMvc.perform(get("/api/tasks/stats").principal(() -> "test@example.com"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag",
+                                                TaskController.etag("test@example.com", 4, "stats-" + LocalDate.now())))
+                                .andExpect(jsonPath("$.total").value(3))
+                                .andExpect(jsonPath("$.byPriority.HIGH").value(3))
+                                .andExpect(jsonPath("$.overdue").value(1));
+        }
+
+        @Test
+        void search_ReturnsRankedTasks() throws Exception {
+                when(taskService.search("test@example.com", "test", 20)).thenReturn(List.of(task));
+
+                mockMvc.perform(get("/api/tasks/search").param("q", "test").principal(() -> "test@example.com"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].id").value("task-1"))
+                                .andExpect(jsonPath("$[0].title").value("Test Task"));
+        }
+
+        @Test
+        void calendar_ReturnsOccurrences() throws Exception {
+                LocalDate day = LocalDate.parse("2026-01-05");
+                when(taskService.calendar("test@example.com", day, day.plusDays(6)))
+                                .thenReturn(List.of(new TaskOccurrence(day, task)));
+
+                mockMvc.perform(get("/api/tasks/calendar")
+                                .param("from", "2026-01-05")
+                                .param("to", "2026-01-11")
+                                .principal(() -> "test@example.com"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].date").value("2026-01-05"))
+                                .andExpect(jsonPath("$[0].task.title").value("Test Task"));
+        }
+
         @Test
         void create_ReturnsCreatedTask() throws Exception {
                 when(taskService.create(any(TaskRequestDTO.class), eq("test@example.com"))).thenReturn(task);
@@ -136,4 +376,31 @@ class TaskControllerTest {
                 mockMvc.perform(delete("/api/tasks/{id}", "task-1").principal(() -> "test@example.com"))
                                 .andExpect(status().isOk());
         }
+
+        @Test
+        void batch_ReturnsResultPerOperation() throws Exception {
+                BatchRequestDTO request = BatchRequestDTO.builder()
+                                .operations(List.of(
+                                                BatchOperationDTO.builder().type(BatchOperationType.DELETE).id("task-1").build()))
+                                .build();
+                when(taskBatchService.apply(any(), eq("test@example.com"))).thenReturn(List.of(
+                                BatchResultDTO.builder().index(0).type(BatchOperationType.DELETE).id("task-1")
+                                                .status(BatchResultDTO.Status.OK).build()));
+
+                mockMvc.perform(post("/api/tasks/batch")
+                                .principal(() -> "test@example.com")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].status").value("OK"));
+        }
+
+        @Test
+        void batch_Empty_ReturnsBadRequest() throws Exception {
+                mockMvc.perform(post("/api/tasks/batch")
+                                .principal(() -> "test@example.com")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"operations\": []}"))
+                                .andExpect(status().isBadRequest());
+        }
 }
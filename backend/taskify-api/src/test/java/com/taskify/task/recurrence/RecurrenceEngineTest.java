@@ -0,0 +1,63 @@
+package com.taskify.task.recurrence;
+
+import com.taskify.task.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceEngineTest {
+
+    private final RecurrenceEngine engine = new RecurrenceEngine();
+
+    private final LocalDate monday = LocalDate.parse("2026-01-05");
+    private final LocalDate sunday = LocalDate.parse("2026-01-11");
+
+    @Test
+    void expand_OneOffTask_OnlyInsideRange() {
+        Task inside = Task.builder().title("A").taskDate("2026-01-07").build();
+        Task outside = Task.builder().title("B").taskDate("2026-01-20").build();
+
+        List<TaskOccurrence> result = engine.expand(List.of(inside, outside), monday, sunday);
+
+        assertEquals(1, result.size());
+        assertEquals(LocalDate.parse("2026-01-07"), result.get(0).date());
+    }
+
+    @Test
+    void expand_RecurringTask_SkipsExcludedDatesAndStartsAtTaskDate() {
+        Task daily = Task.builder()
+                .title("Daily")
+                .taskDate("2026-01-08")
+                .repeatDays(List.of("LUNES", "MIÉRCOLES", "jueves", "FRI", "6"))
+                .excludedDates(List.of("2026-01-09"))
+                .build();
+
+        List<TaskOccurrence> result = engine.expand(List.of(daily), monday, sunday);
+
+        assertEquals(List.of(LocalDate.parse("2026-01-08"), LocalDate.parse("2026-01-10")),
+                result.stream().map(TaskOccurrence::date).toList());
+    }
+
+    @Test
+    void expand_UsesPrecomputedMask() {
+        Task task = Task.builder()
+                .title("Weekend")
+                .repeatMask(WeekdayMask.of(List.of("SATURDAY", "SUNDAY")))
+                .build();
+
+        List<TaskOccurrence> result = engine.expand(List.of(task), monday, sunday);
+
+        assertEquals(2, result.size());
+        assertEquals(DayOfWeek.SATURDAY, result.get(0).date().getDayOfWeek());
+    }
+
+    @Test
+    void weekdayMask_IgnoresUnknownValues() {
+        assertEquals(0, WeekdayMask.of(List.of("someday", "", "9")));
+        assertEquals(0b1000001, WeekdayMask.of(List.of("MONDAY", "DOMINGO")));
+    }
+}
@@ -0,0 +1,143 @@
+package com.taskify.task.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.taskify.config.MongoOperationPolicy;
+import com.taskify.task.model.Task;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link TaskRepositoryCustomImpl#bulkWrite} contra un MongoDB real: una tarea
+ * de otro usuario y un id inexistente dan el mismo NOT_FOUND, en borrados y
+ * en actualizaciones, y sólo se tocan las tareas del usuario. Las pruebas
+ * contra el servidor se ejecutan solo si MONGO_TEST_URI está definida, como
+ * {@link TaskQueryPlanTest}; la consulta previa de los borrados se comprueba
+ * siempre.
+ */
+class TaskBulkWriteTest {
+
+    private static final String DATABASE = "taskify_bulk_write_test";
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+    private static TaskRepositoryCustomImpl repository;
+
+    @BeforeAll
+    static void setUp() {
+        if (System.getenv("MONGO_TEST_URI") == null) {
+            return;
+        }
+        client = MongoClients.create(System.getenv("MONGO_TEST_URI"));
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.dropCollection(Task.class);
+        repository = new TaskRepositoryCustomImpl(mongoTemplate, new MongoOperationPolicy("", ""));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (client != null) {
+            client.getDatabase(DATABASE).drop();
+            client.close();
+        }
+    }
+
+    @Test
+    void deletes_AreCheckedAgainstTheUsersTasksBeforeSending() {
+        MongoTemplate template = mock(MongoTemplate.class);
+        BulkOperations bulk = mock(BulkOperations.class);
+        String owned = new ObjectId().toHexString();
+        String foreign = new ObjectId().toHexString();
+        when(template.find(any(Query.class), eq(Task.class))).thenReturn(List.of(Task.builder().id(owned).build()));
+        when(template.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(BulkWriteResult.acknowledged(0, 0, 1, 0, List.of(), List.of()));
+
+        TaskBulkResult result = new TaskRepositoryCustomImpl(template, new MongoOperationPolicy("", ""))
+                .bulkWrite(List.of(TaskBulkWrite.delete(foreign, "u1"), TaskBulkWrite.delete(owned, "u1")));
+
+        assertEquals(Set.of(0), result.notFound());
+        ArgumentCaptor<Query> lookup = ArgumentCaptor.forClass(Query.class);
+        verify(template).find(lookup.capture(), eq(Task.class));
+        assertEquals("u1", lookup.getValue().getQueryObject().get("userId"));
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(bulk, times(1)).remove(removed.capture());
+        assertEquals(TaskRepositoryCustomImpl.ownedBy(owned, "u1").getQueryObject(), removed.getValue().getQueryObject());
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "MONGO_TEST_URI", matches = ".+")
+    void mixedBatch_ForeignAndMissingIds_AreNotFound() {
+        String owned = save("u1", "Propia");
+        String ownedToUpdate = save("u1", "Propia, se completa");
+        String foreign = save("u2", "Ajena");
+        String foreignToUpdate = save("u2", "Ajena, no se completa");
+        String missing = new ObjectId().toHexString();
+        String inserted = new ObjectId().toHexString();
+
+        TaskBulkResult result = repository.bulkWrite(List.of(
+                TaskBulkWrite.delete(foreign, "u1"),
+                TaskBulkWrite.delete(missing, "u1"),
+                TaskBulkWrite.delete(owned, "u1"),
+                TaskBulkWrite.setCompleted(ownedToUpdate, "u1", true),
+                TaskBulkWrite.setCompleted(foreignToUpdate, "u1", true),
+                TaskBulkWrite.setCompleted(missing, "u1", true),
+                TaskBulkWrite.insert(Task.builder().id(inserted).userId("u1").title("Nueva").build())));
+
+        assertEquals(Set.of(0, 1, 4, 5), result.notFound());
+        assertTrue(result.failures().isEmpty());
+        assertNull(mongoTemplate.findById(owned, Task.class));
+        assertNotNull(mongoTemplate.findById(foreign, Task.class));
+        assertTrue(mongoTemplate.findById(ownedToUpdate, Task.class).isCompleted());
+        assertFalse(mongoTemplate.findById(foreignToUpdate, Task.class).isCompleted());
+        assertNotNull(mongoTemplate.findById(inserted, Task.class));
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "MONGO_TEST_URI", matches = ".+")
+    void onlyMissingDeletes_SendNothing() {
+        String foreign = save("u2", "Ajena");
+
+        TaskBulkResult result = repository.bulkWrite(List.of(
+                TaskBulkWrite.delete(foreign, "u1"),
+                TaskBulkWrite.delete(new ObjectId().toHexString(), "u1")));
+
+        assertEquals(Set.of(0, 1), result.notFound());
+        assertNotNull(mongoTemplate.findById(foreign, Task.class));
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "MONGO_TEST_URI", matches = ".+")
+    void duplicateInsertAfterSkippedDelete_ReportsFailureAtItsOwnPosition() {
+        String existing = save("u1", "Existente");
+
+        TaskBulkResult result = repository.bulkWrite(List.of(
+                TaskBulkWrite.delete(new ObjectId().toHexString(), "u1"),
+                TaskBulkWrite.insert(Task.builder().id(existing).userId("u1").title("Duplicada").build())));
+
+        assertEquals(Set.of(0), result.notFound());
+        assertEquals(Set.of(1), result.failures().keySet());
+    }
+
+    private String save(String userId, String title) {
+        return mongoTemplate.insert(Task.builder().userId(userId).title(title).build()).getId();
+    }
+}
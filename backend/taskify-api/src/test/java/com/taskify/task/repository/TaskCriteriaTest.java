@@ -0,0 +1,41 @@
+package com.taskify.task.repository;
+
+import com.taskify.task.model.Priority;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCriteriaTest {
+
+    @Test
+    void of_NoFilters_OnlyRestrictsUser() {
+        Document query = TaskCriteria.of("user-1", TaskFilter.NONE).getCriteriaObject();
+
+        assertEquals(new Document("userId", "user-1"), query);
+    }
+
+    @Test
+    void of_AllFilters_FollowsIndexFieldOrder() {
+        TaskFilter filter = TaskFilter.builder()
+                .completed(false)
+                .priority(Priority.HIGH)
+                .dateFrom("2026-01-01")
+                .dateTo("2026-01-31")
+                .hasRecurrence(true)
+                .titlePrefix("a.b")
+                .build();
+
+        Document query = TaskCriteria.of("user-1", filter).getCriteriaObject();
+
+        assertEquals(List.of("userId", "completed", "priority", "taskDate", "repeatDays.0", "title"),
+                List.copyOf(query.keySet()));
+        assertEquals(new Document("$gte", "2026-01-01").append("$lte", "2026-01-31"), query.get("taskDate"));
+        Pattern title = (Pattern) query.get("title");
+        assertTrue(title.matcher("a.b task").find());
+        assertFalse(title.matcher("axb task").find());
+    }
+}
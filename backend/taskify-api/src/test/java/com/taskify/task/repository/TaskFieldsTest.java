@@ -0,0 +1,37 @@
+package com.taskify.task.repository;
+
+import com.taskify.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskFieldsTest {
+
+    @Test
+    void parse_IncludesIdAndAppliesProjection() {
+        TaskFields fields = TaskFields.parse(" title, completed ,");
+
+        assertTrue(fields.includes("id"));
+        assertTrue(fields.includes("title"));
+        assertFalse(fields.includes("excludedDates"));
+        assertEquals(fields, TaskFields.parse("completed,title"));
+
+        Query query = new Query();
+        fields.applyTo(query);
+        assertEquals(3, query.getFieldsObject().size());
+        assertEquals(1, query.getFieldsObject().get("title"));
+    }
+
+    @Test
+    void parse_BlankMeansAllFields() {
+        assertSame(TaskFields.ALL, TaskFields.parse(" "));
+        assertTrue(TaskFields.ALL.includes("excludedDates"));
+        assertSame(TaskFields.ALL, TaskFields.ALL.with("taskDate"));
+    }
+
+    @Test
+    void parse_UnknownField_ThrowsBadRequest() {
+        assertThrows(BadRequestException.class, () -> TaskFields.parse("title,userId"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskify.task.repository;
+
+import com.taskify.task.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Forma de los índices declarados en Task, sin MongoDB: cada combinación de
+ * igualdades del filtro tiene su índice terminado en el orden del listado y
+ * ningún índice es prefijo de otro (cada uno extra encarece las escrituras).
+ */
+class TaskIndexesTest {
+
+    private final Map<String, List<String>> indexes = resolveIndexes();
+
+    private static Map<String, List<String>> resolveIndexes() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        return StreamSupport.stream(new MongoPersistentEntityIndexResolver(mappingContext)
+                        .resolveIndexFor(Task.class).spliterator(), false)
+                .filter(index -> !index.getIndexKeys().containsValue("text"))
+                .collect(Collectors.toMap(
+                        index -> index.getIndexOptions().getString("name"),
+                        index -> new ArrayList<>(index.getIndexKeys().keySet())));
+    }
+
+    @Test
+    void everyEqualityCombination_HasAnIndexEndingInTheListingOrder() {
+        assertEquals(List.of("userId", "taskDate", "_id"), indexes.get("uid_date_id_idx"));
+        assertEquals(List.of("userId", "completed", "taskDate", "_id"), indexes.get("uid_completed_date_idx"));
+        assertEquals(List.of("userId", "priority", "taskDate", "_id"), indexes.get("uid_priority_date_idx"));
+        assertEquals(List.of("userId", "completed", "priority", "taskDate", "_id"),
+                indexes.get("uid_completed_priority_date_id_idx"));
+    }
+
+    @Test
+    void noIndex_IsAPrefixOfAnother() {
+        indexes.forEach((name, keys) -> indexes.forEach((other, otherKeys) -> {
+            if (!name.equals(other) && otherKeys.size() >= keys.size()) {
+                assertNotEquals(keys, otherKeys.subList(0, keys.size()), name + " is a prefix of " + other);
+            }
+        }));
+    }
+}
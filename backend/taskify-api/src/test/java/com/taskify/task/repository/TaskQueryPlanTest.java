@@ -0,0 +1,166 @@
+package com.taskify.task.repository;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.taskify.task.model.Priority;
+import com.taskify.task.model.Task;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprueba con explain() que cada combinación de filtros soportada se resuelve
+ * con su índice compuesto, sin ordenar en memoria y sin leer documentos que
+ * luego se descartan. Necesita un MongoDB real: se ejecuta solo si
+ * MONGO_TEST_URI está definida (p. ej. mongodb://localhost:27017). La forma de
+ * los índices se comprueba siempre en {@link TaskIndexesTest}.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGO_TEST_URI", matches = ".+")
+class TaskQueryPlanTest {
+
+    private static final String DATABASE = "taskify_query_plan_test";
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(System.getenv("MONGO_TEST_URI"));
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.dropCollection(Task.class);
+
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        IndexOperations indexOps = mongoTemplate.indexOps(Task.class);
+        new MongoPersistentEntityIndexResolver(mappingContext).resolveIndexFor(Task.class)
+                .forEach(indexOps::createIndex);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(Task.builder()
+                    .userId("user-" + (i % 4))
+                    .title("Task " + i)
+                    .taskDate("2026-01-" + String.format("%02d", 1 + i % 28))
+                    .completed(i % 2 == 0)
+                    .priority(Priority.values()[i % 3])
+                    .repeatDays(i % 5 == 0 ? List.of("MONDAY") : List.of())
+                    .build());
+        }
+        mongoTemplate.insertAll(tasks);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (client != null) {
+            client.getDatabase(DATABASE).drop();
+            client.close();
+        }
+    }
+
+    static Stream<TaskFilter> filterCombinations() {
+        List<TaskFilter> filters = new ArrayList<>();
+        for (int mask = 0; mask < 32; mask++) {
+            filters.add(TaskFilter.builder()
+                    .completed((mask & 1) != 0 ? Boolean.TRUE : null)
+                    .priority((mask & 2) != 0 ? Priority.HIGH : null)
+                    .dateFrom((mask & 4) != 0 ? "2026-01-05" : null)
+                    .dateTo((mask & 4) != 0 ? "2026-01-20" : null)
+                    .hasRecurrence((mask & 8) != 0 ? Boolean.TRUE : null)
+                    .titlePrefix((mask & 16) != 0 ? "Task 1" : null)
+                    .build());
+        }
+        return filters.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("filterCombinations")
+    void everyFilterCombination_UsesItsIndexWithoutSorting(TaskFilter filter) {
+        Document explain = explain(filter);
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        Document stats = explain.get("executionStats", Document.class);
+
+        Set<String> stages = new HashSet<>();
+        Set<String> indexes = new HashSet<>();
+        collectStages(winningPlan, stages, indexes);
+
+        assertEquals(Set.of(expectedIndex(filter)), indexes, () -> "Indexes for " + filter + ": " + winningPlan);
+        assertFalse(stages.contains("SORT"), () -> "Blocking SORT for " + filter + ": " + stages);
+        assertFalse(stages.contains("COLLSCAN"), () -> "COLLSCAN for " + filter + ": " + stages);
+
+        int returned = stats.getInteger("nReturned");
+        int examined = stats.getInteger("totalDocsExamined");
+        if (filter.getHasRecurrence() == null && filter.getTitlePrefix() == null) {
+            // Todo el filtro está en los límites del índice: cada documento leído se devuelve
+            assertEquals(returned, examined, () -> "Docs examined for " + filter);
+        } else {
+            // Recurrencia y prefijo se filtran tras el índice: no se lee más de lo que éste acota
+            TaskFilter indexed = TaskFilter.builder()
+                    .completed(filter.getCompleted())
+                    .priority(filter.getPriority())
+                    .dateFrom(filter.getDateFrom())
+                    .dateTo(filter.getDateTo())
+                    .build();
+            long bounded = mongoTemplate.count(Query.query(TaskCriteria.of("user-1", indexed)), Task.class);
+            assertTrue(examined <= bounded, () -> "Docs examined for " + filter + ": " + examined + " > " + bounded);
+        }
+    }
+
+    // Igualdades del filtro -> índice {userId, igualdades..., taskDate, _id} declarado en Task
+    private static String expectedIndex(TaskFilter filter) {
+        if (filter.getCompleted() != null && filter.getPriority() != null) {
+            return "uid_completed_priority_date_id_idx";
+        }
+        if (filter.getCompleted() != null) {
+            return "uid_completed_date_idx";
+        }
+        if (filter.getPriority() != null) {
+            return "uid_priority_date_idx";
+        }
+        return "uid_date_id_idx";
+    }
+
+    private static Document explain(TaskFilter filter) {
+        Query query = Query.query(TaskCriteria.of("user-1", filter))
+                .with(Sort.by(Sort.Order.asc("taskDate"), Sort.Order.asc("id")));
+
+        QueryMapper mapper = new QueryMapper(mongoTemplate.getConverter());
+        var entity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Task.class);
+        return mongoTemplate.getCollection("tasks")
+                .find(mapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(mapper.getMappedSort(query.getSortObject(), entity))
+                .explain(ExplainVerbosity.EXECUTION_STATS);
+    }
+
+    private static void collectStages(Object node, Set<String> stages, Set<String> indexes) {
+        if (node instanceof Document document) {
+            Object stage = document.get("stage");
+            if (stage instanceof String name) {
+                stages.add(name);
+                if (name.equals("IXSCAN")) {
+                    indexes.add(document.getString("indexName"));
+                }
+            }
+            document.values().forEach(value -> collectStages(value, stages, indexes));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages, indexes));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskify.task.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.taskify.config.MongoOperationPolicy;
+import com.taskify.task.model.Task;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pipeline $facet de {@link TaskRepositoryCustomImpl#stats}. La forma de las
+ * etapas se comprueba siempre; la ejecución real, solo si MONGO_TEST_URI está
+ * definida.
+ */
+class TaskStatsPipelineTest {
+
+    private static final String DATABASE = "taskify_stats_pipeline_test";
+
+    @Test
+    void stats_GroupsMissingCompletedAsPending() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Task.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(new Document()), new Document()));
+        ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+
+        new TaskRepositoryCustomImpl(mongoTemplate, new MongoOperationPolicy("", "")).stats("u1", "2026-01-10");
+
+        verify(mongoTemplate).aggregate(captor.capture(), eq(Task.class), eq(Document.class));
+        List<Document> pipeline = captor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(2, pipeline.size());
+        assertEquals(new Document("userId", "u1"), pipeline.get(0).get("$match"));
+
+        Document facets = pipeline.get(1).get("$facet", Document.class);
+        List<Document> byCompletion = facets.getList("byCompletion", Document.class);
+        assertEquals(new Document("completed", new Document("$ifNull", List.of("$completed", false))),
+                byCompletion.get(0).get("$project"));
+        assertEquals("$completed", byCompletion.get(1).get("$group", Document.class).get("_id"));
+
+        Document byDateMatch = facets.getList("byDate", Document.class).get(0).get("$match", Document.class);
+        assertTrue(byDateMatch.toJson().contains("{\"completed\": {\"$ne\": true}"), byDateMatch.toJson());
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "MONGO_TEST_URI", matches = ".+")
+    void stats_AgainstMongo_CountsTasksWithoutCompleted() {
+        try (MongoClient client = MongoClients.create(System.getenv("MONGO_TEST_URI"))) {
+            MongoTemplate mongoTemplate = new MongoTemplate(client, DATABASE);
+            try {
+                mongoTemplate.getCollection("tasks").insertMany(List.of(
+                        new Document("userId", "u1").append("taskDate", "2026-01-01").append("completed", true),
+                        new Document("userId", "u1").append("taskDate", "2026-01-01").append("priority", "HIGH"),
+                        new Document("userId", "u1").append("completed", false),
+                        new Document("userId", "u2").append("completed", false)));
+
+                TaskStats stats = new TaskRepositoryCustomImpl(mongoTemplate, new MongoOperationPolicy("", ""))
+                        .stats("u1", "2026-01-10");
+
+                assertEquals(3, stats.total());
+                assertEquals(1, stats.completed());
+                assertEquals(2, stats.pending());
+                assertEquals(1, stats.overdue());
+                assertEquals(1, stats.unscheduled());
+            } finally {
+                client.getDatabase(DATABASE).drop();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskify.task.repository;
+
+import com.taskify.task.model.Priority;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskStatsTest {
+
+    @Test
+    void from_MapsFacetsAndFillsMissingGroups() {
+        Document facets = new Document()
+                .append("byCompletion", List.of(group(true, 3), group(false, 5)))
+                .append("byPriority", List.of(group("HIGH", 6), group("LOW", 2)))
+                .append("byDate", List.of(group("overdue", 1), group("upcoming", 2)))
+                .append("unscheduled", List.of(new Document("count", 1)))
+                .append("recurring", List.of());
+
+        TaskStats stats = TaskStats.from(facets);
+
+        assertEquals(8, stats.total());
+        assertEquals(3, stats.completed());
+        assertEquals(5, stats.pending());
+        assertEquals(6, stats.byPriority().get(Priority.HIGH));
+        assertEquals(0, stats.byPriority().get(Priority.MEDIUM));
+        assertEquals(1, stats.overdue());
+        assertEquals(0, stats.today());
+        assertEquals(2, stats.upcoming());
+        assertEquals(1, stats.unscheduled());
+        assertEquals(0, stats.recurring());
+    }
+
+    @Test
+    void from_NoTasks_ReturnsZeros() {
+        TaskStats stats = TaskStats.from(new Document());
+
+        assertEquals(0, stats.total());
+        assertEquals(3, stats.byPriority().size());
+    }
+
+    private Document group(Object id, int count) {
+        return new Document("_id", id).append("count", count);
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskify.task.search;
+
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskRepository;
+import com.taskify.task.service.TaskVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryTaskSearchIndexTest {
+
+    @Mock
+    private TaskRepository repository;
+
+    @Mock
+    private TaskVersionService versions;
+
+    private InMemoryTaskSearchIndex index;
+
+    private final String userId = "user-123";
+    private final Task gym = task("t1", "Gimnasio", "Piernas y espalda");
+    private final Task shopping = task("t2", "Compra", "Leche, pan y fruta para el gimnasio");
+    private final Task song = task("t3", "Canción nueva", null);
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryTaskSearchIndex(repository, versions, new SimpleMeterRegistry(), 1000, Duration.ofMinutes(5));
+    }
+
+    private void givenTasks(long version, Task... tasks) {
+        when(versions.current(userId)).thenReturn(version);
+        when(repository.streamByUserIdOrderByTaskDateAscIdAsc(userId)).thenAnswer(invocation -> Stream.of(tasks));
+    }
+
+    @Test
+    void search_RanksTitleMatchesFirst() {
+        givenTasks(1, gym, shopping, song);
+
+        assertEquals(List.of(gym, shopping), index.search(userId, "gimnasio", 10));
+    }
+
+    @Test
+    void search_MatchesLastTermAsPrefixAndIgnoresAccents() {
+        givenTasks(1, gym, shopping, song);
+
+        assertEquals(List.of(gym, shopping), index.search(userId, "GIMN", 10));
+        assertEquals(List.of(song), index.search(userId, "cancion nu", 10));
+        assertEquals(List.of(), index.search(userId, "canc nueva", 10));
+    }
+
+    @Test
+    void indexed_NextVersion_UpdatesInPlace() {
+        givenTasks(1, gym, shopping);
+        index.search(userId, "gimnasio", 10);
+
+        index.indexed(task("t1", "Natación", null), 2);
+        index.removed(userId, "t2", 3);
+        when(versions.current(userId)).thenReturn(3L);
+
+        assertEquals(List.of(), index.search(userId, "gimnasio", 10));
+        assertEquals("t1", index.search(userId, "natacion", 10).get(0).getId());
+        verify(repository, times(1)).streamByUserIdOrderByTaskDateAscIdAsc(userId);
+    }
+
+    @Test
+    void search_VersionChangedElsewhere_Rebuilds() {
+        givenTasks(1, gym);
+        index.search(userId, "gimnasio", 10);
+
+        // Un lote o una importación incrementa la versión sin pasar por el índice
+        givenTasks(2, gym, song);
+        index.indexed(shopping, 4);
+
+        assertEquals(List.of(song), index.search(userId, "cancion", 10));
+        assertEquals(List.of(gym), index.search(userId, "gimnasio", 10));
+        verify(repository, times(2)).streamByUserIdOrderByTaskDateAscIdAsc(userId);
+    }
+
+    private Task task(String id, String title, String description) {
+        return Task.builder().id(id).userId(userId).title(title).description(description).build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.taskify.task.search;
+
+import com.taskify.config.MongoOperationPolicy;
+import com.taskify.task.model.Task;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MongoTaskSearchIndexTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOps;
+
+    private MongoTaskSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new MongoTaskSearchIndex(mongoTemplate, new MongoOperationPolicy("", ""), "spanish");
+    }
+
+    @Test
+    void search_TextQueryUsesConfiguredLanguage_ThenCompletesWithPrefixMatches() {
+        Task byText = task("t1");
+        Task byPrefix = task("t2");
+        when(mongoTemplate.find(any(Query.class), eq(Task.class)))
+                .thenReturn(List.of(byText))
+                .thenReturn(List.of(byText, byPrefix));
+
+        List<Task> results = searchIndex.search("u1", "comprar pan", 5);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queries.capture(), eq(Task.class));
+        Document text = queries.getAllValues().get(0).getQueryObject();
+        assertEquals("u1", text.get("userId"));
+        assertEquals(new Document("$search", "comprar pan").append("$language", "spanish"), text.get("$text"));
+        Document prefix = queries.getAllValues().get(1).getQueryObject();
+        assertTrue(prefix.toJson().contains("\\\\Qpan\\\\E"), prefix.toJson());
+        assertEquals(List.of(byText, byPrefix), results);
+    }
+
+    @Test
+    void afterPropertiesSet_NoTextIndex_CreatesItWithLanguage() {
+        when(mongoTemplate.indexOps(Task.class)).thenReturn(indexOps);
+        when(indexOps.getIndexInfo()).thenReturn(List.of(index("_id_", null)));
+
+        searchIndex.afterPropertiesSet();
+
+        ArgumentCaptor<IndexDefinition> created = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOps).createIndex(created.capture());
+        verify(indexOps, never()).dropIndex(any());
+        assertEquals(List.of("userId", "title", "description"),
+                List.copyOf(created.getValue().getIndexKeys().keySet()));
+        assertEquals("spanish", created.getValue().getIndexOptions().get("default_language"));
+    }
+
+    @Test
+    void afterPropertiesSet_TextIndexInOtherLanguage_ReplacesIt() {
+        when(mongoTemplate.indexOps(Task.class)).thenReturn(indexOps);
+        when(indexOps.getIndexInfo()).thenReturn(List.of(index("_id_", null), index("uid_text_idx", "english")));
+
+        searchIndex.afterPropertiesSet();
+
+        verify(indexOps).dropIndex("uid_text_idx");
+        verify(indexOps).createIndex(any());
+    }
+
+    @Test
+    void afterPropertiesSet_TextIndexUpToDate_LeavesIt() {
+        when(mongoTemplate.indexOps(Task.class)).thenReturn(indexOps);
+        when(indexOps.getIndexInfo()).thenReturn(List.of(index("uid_text_idx", "spanish")));
+
+        searchIndex.afterPropertiesSet();
+
+        verify(indexOps, never()).dropIndex(any());
+        verify(indexOps, never()).createIndex(any());
+    }
+
+    private Task task(String id) {
+        return Task.builder().id(id).userId("u1").title("Comprar pan").build();
+    }
+
+    // Como lo devuelve listIndexes: los de texto llevan _fts/_ftsx, weights y default_language
+    private IndexInfo index(String name, String language) {
+        Document spec = new Document("name", name);
+        if (language == null) {
+            spec.append("key", new Document("_id", 1));
+        } else {
+            spec.append("key", new Document("userId", 1).append("_fts", "text").append("_ftsx", 1))
+                    .append("weights", new Document("title", 1).append("description", 1))
+                    .append("default_language", language);
+        }
+        return IndexInfo.indexInfoOf(spec);
+    }
+}
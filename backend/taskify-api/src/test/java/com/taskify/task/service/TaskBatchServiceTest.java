@@ -0,0 +1,120 @@
+package com.taskify.task.service;
+
+import com.taskify.task.dto.BatchOperationDTO;
+import com.taskify.task.dto.BatchOperationType;
+import com.taskify.task.dto.BatchResultDTO;
+import com.taskify.task.dto.TaskRequestDTO;
+import com.taskify.task.repository.TaskBulkResult;
+import com.taskify.task.repository.TaskBulkWrite;
+import com.taskify.task.repository.TaskRepository;
+import com.taskify.task.stream.TaskEventPublisher;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+
+    @Mock
+    private TaskRepository repository;
+
+    @Mock
+    private TaskVersionService versions;
+
+    @Mock
+    private TaskReadCache readCache;
+
+    @Mock
+    private TaskEventPublisher events;
+
+    private TaskBatchService batchService;
+
+    private final String userId = "user-123";
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        batchService = new TaskBatchService(repository, validator, versions, readCache, events);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void apply_MixedOperations_ReturnsResultPerItem() {
+        List<BatchOperationDTO> operations = List.of(
+                BatchOperationDTO.builder().type(BatchOperationType.CREATE)
+                        .task(TaskRequestDTO.builder().title("New").build()).build(),
+                BatchOperationDTO.builder().type(BatchOperationType.COMPLETE).id("owned").completed(true).build(),
+                BatchOperationDTO.builder().type(BatchOperationType.DELETE).id("foreign").build(),
+                BatchOperationDTO.builder().type(BatchOperationType.UPDATE).id("owned")
+                        .task(TaskRequestDTO.builder().title("").build()).build(),
+                BatchOperationDTO.builder().type(BatchOperationType.EXCLUDE).id("owned").build());
+
+        // La escritura 2 (borrado de "foreign") no encuentra tarea del usuario
+        when(repository.bulkWrite(anyList())).thenReturn(new TaskBulkResult(Map.of(), Set.of(2)));
+
+        List<BatchResultDTO> results = batchService.apply(operations, userId);
+
+        assertEquals(5, results.size());
+        assertEquals(BatchResultDTO.Status.OK, results.get(0).getStatus());
+        assertNotNull(results.get(0).getId());
+        assertEquals(BatchResultDTO.Status.OK, results.get(1).getStatus());
+        assertEquals(BatchResultDTO.Status.NOT_FOUND, results.get(2).getStatus());
+        assertEquals(BatchResultDTO.Status.INVALID, results.get(3).getStatus());
+        assertEquals(BatchResultDTO.Status.INVALID, results.get(4).getStatus());
+
+        ArgumentCaptor<List<TaskBulkWrite>> writes = ArgumentCaptor.forClass(List.class);
+        verify(repository).bulkWrite(writes.capture());
+        assertEquals(3, writes.getValue().size());
+        assertEquals(userId, writes.getValue().get(0).task().getUserId());
+        assertTrue(writes.getValue().stream().allMatch(write -> userId.equals(write.userId())));
+        verify(repository, times(1)).bulkWrite(anyList());
+        verify(versions).bump(userId);
+        verify(readCache).invalidate(userId);
+        verify(events).created(any());
+        verify(events).updated(userId, "owned");
+        verify(events, never()).deleted(any(), any());
+    }
+
+    @Test
+    void apply_BulkFailure_MarksOnlyFailedItem() {
+        List<BatchOperationDTO> operations = List.of(
+                BatchOperationDTO.builder().type(BatchOperationType.DELETE).id("a").build(),
+                BatchOperationDTO.builder().type(BatchOperationType.DELETE).id("b").build());
+
+        when(repository.bulkWrite(anyList())).thenReturn(new TaskBulkResult(Map.of(1, "write error"), Set.of()));
+
+        List<BatchResultDTO> results = batchService.apply(operations, userId);
+
+        assertEquals(BatchResultDTO.Status.OK, results.get(0).getStatus());
+        assertEquals(BatchResultDTO.Status.FAILED, results.get(1).getStatus());
+        assertEquals("write error", results.get(1).getMessage());
+    }
+
+    @Test
+    void apply_NothingMatched_DoesNotBumpVersion() {
+        List<BatchOperationDTO> operations = List.of(
+                BatchOperationDTO.builder().type(BatchOperationType.COMPLETE).id("gone").completed(true).build());
+
+        when(repository.bulkWrite(anyList())).thenReturn(new TaskBulkResult(Map.of(), Set.of(0)));
+
+        List<BatchResultDTO> results = batchService.apply(operations, userId);
+
+        assertEquals(BatchResultDTO.Status.NOT_FOUND, results.get(0).getStatus());
+        verify(versions, never()).bump(any());
+        verifyNoInteractions(events);
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskify.task.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskify.exception.BadRequestException;
+import com.taskify.task.model.Priority;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository repository;
+
+    private TaskExportService exportService;
+
+    private final String userId = "user-123";
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new TaskExportService(repository, objectMapper);
+    }
+
+    private void givenTwoTasks() {
+        Task first = Task.builder().id("t1").title("Gym").taskDate("2026-01-05").priority(Priority.HIGH)
+                .repeatDays(List.of("MONDAY", "FRIDAY")).build();
+        Task second = Task.builder().id("t2").title("Say \"hi\", then leave").description("line\nbreak").build();
+        when(repository.streamByUserIdOrderByTaskDateAscIdAsc(userId))
+                .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+    }
+
+    @Test
+    void export_Ndjson_WritesOneTaskPerLine() throws Exception {
+        givenTwoTasks();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(userId, TaskExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"t1\",\"title\":\"Gym\""));
+        assertTrue(lines[1].contains("\"description\":\"line\\nbreak\""));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void export_Csv_QuotesSpecialCharacters() throws Exception {
+        givenTwoTasks();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(userId, TaskExportService.Format.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,title,description,taskDate,completed,priority,repeatDays,excludedDates,createdAt,updatedAt\r\n"));
+        assertTrue(csv.contains("t1,Gym,,2026-01-05,false,HIGH,MONDAY;FRIDAY,,,\r\n"));
+        assertTrue(csv.contains("t2,\"Say \"\"hi\"\", then leave\",\"line\nbreak\","));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void csv_FormulaLikeCells_ArePrefixedAsText() {
+        assertEquals("'=1+1", TaskExportService.csv("=1+1"));
+        assertEquals("'+34 600", TaskExportService.csv("+34 600"));
+        assertEquals("'-2", TaskExportService.csv("-2"));
+        assertEquals("'@SUM(A1)", TaskExportService.csv("@SUM(A1)"));
+        assertEquals("\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\"", TaskExportService.csv("=HYPERLINK(\"x\",\"y\")"));
+        assertEquals("a=b", TaskExportService.csv("a=b"));
+    }
+
+    @Test
+    void parseFormat_Unknown_ThrowsBadRequest() {
+        assertEquals(TaskExportService.Format.CSV, TaskExportService.Format.parse("csv"));
+        assertThrows(BadRequestException.class, () -> TaskExportService.Format.parse("xml"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskify.task.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.task.dto.ImportResultDTO;
+import com.taskify.task.repository.TaskBulkResult;
+import com.taskify.task.repository.TaskBulkWrite;
+import com.taskify.task.repository.TaskRepository;
+import com.taskify.task.stream.TaskEventPublisher;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskRepository repository;
+
+    @Mock
+    private TaskVersionService versions;
+
+    @Mock
+    private TaskReadCache readCache;
+
+    @Mock
+    private TaskEventPublisher events;
+
+    private final String userId = "user-123";
+
+    private TaskImportService service(int batchSize, int maxErrors) {
+        return new TaskImportService(repository, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), versions, readCache, events, batchSize, maxErrors);
+    }
+
+    private ImportResultDTO run(TaskImportService service, String body) throws Exception {
+        return service.importTasks(userId, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void importTasks_InsertsInBatchesAndReportsInvalidLines() throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        when(repository.bulkWrite(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(invocation.<List<TaskBulkWrite>>getArgument(0).size());
+            return TaskBulkResult.empty();
+        });
+
+        String body = """
+                {"title":"One","priority":"HIGH"}
+                {"title":""}
+
+                {"title":"Two"}\r
+                not json
+                {"title":"Three","repeatDays":["MONDAY"]}
+                {"title":"Four"}""";
+
+        ImportResultDTO result = run(service(2, 100), body);
+
+        assertEquals(7, result.getLines());
+        assertEquals(4, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("title:"));
+        assertEquals(5, result.getErrors().get(1).getLine());
+        assertTrue(result.getErrors().get(1).getMessage().startsWith("Invalid JSON"));
+        assertFalse(result.isErrorsTruncated());
+        assertEquals(List.of(2, 2), batchSizes);
+        verify(versions, times(2)).bump(userId);
+        verify(events, times(4)).created(any());
+    }
+
+    @Test
+    void importTasks_BulkFailure_ReportsOriginalLine() throws Exception {
+        when(repository.bulkWrite(anyList())).thenReturn(new TaskBulkResult(Map.of(1, "duplicate key"), Set.of()));
+
+        ImportResultDTO result = run(service(10, 100), "{\"title\":\"A\"}\n\n{\"title\":\"B\"}\n");
+
+        assertEquals(1, result.getImported());
+        assertEquals(3, result.getErrors().get(0).getLine());
+        assertEquals("duplicate key", result.getErrors().get(0).getMessage());
+
+        ArgumentCaptor<List<TaskBulkWrite>> writes = ArgumentCaptor.forClass(List.class);
+        verify(repository).bulkWrite(writes.capture());
+        assertEquals(userId, writes.getValue().get(0).task().getUserId());
+    }
+
+    @Test
+    void importTasks_TooManyErrors_TruncatesListAndSkipsLongLines() throws Exception {
+        String longLine = "{\"title\":\"" + "x".repeat(TaskImportService.MAX_LINE_LENGTH) + "\"}";
+
+        ImportResultDTO result = run(service(10, 1), longLine + "\n[]\nnull\n");
+
+        assertEquals(0, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Line exceeds"));
+        assertTrue(result.isErrorsTruncated());
+        verifyNoInteractions(repository, versions);
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskify.task.service;
+
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskFields;
+import com.taskify.task.repository.TaskFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskReadCacheTest {
+
+    @Mock
+    private TaskVersionService versions;
+
+    private SimpleMeterRegistry registry;
+    private TaskReadCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final TaskReadCache.Query firstPage = TaskReadCache.Query.list(TaskFilter.NONE, PageRequest.of(0, 20), TaskFields.ALL);
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new TaskReadCache(versions, registry, true, 1000, 4, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void get_SameQueryAndVersion_IsServedFromCache() {
+        when(versions.current("user")).thenReturn(1L);
+
+        Page<Task> first = cache.get("user", firstPage, loader());
+        Page<Task> second = cache.get("user", firstPage, loader());
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, registry.get("taskify.task.cache.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void invalidate_OnlyDropsThatUser() {
+        when(versions.current(anyString())).thenReturn(1L);
+
+        cache.get("user", firstPage, loader());
+        cache.get("other", firstPage, loader());
+        cache.invalidate("user");
+        cache.get("user", firstPage, loader());
+        cache.get("other", firstPage, loader());
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void get_VersionChangedElsewhere_Reloads() {
+        when(versions.current("user")).thenReturn(1L, 2L);
+
+        cache.get("user", firstPage, loader());
+        cache.get("user", firstPage, loader());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_DifferentPageShape_IsSeparateEntry() {
+        when(versions.current("user")).thenReturn(1L);
+
+        cache.get("user", firstPage, loader());
+        cache.get("user", TaskReadCache.Query.list(TaskFilter.NONE, PageRequest.of(1, 20), TaskFields.ALL), loader());
+        cache.get("user", TaskReadCache.Query.today(PageRequest.of(0, 20), "2026-01-01"), loader());
+        cache.get("user", firstPage, loader());
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void disabled_AlwaysLoads() {
+        cache = new TaskReadCache(versions, new SimpleMeterRegistry(), false, 1000, 4, Duration.ofMinutes(1));
+
+        cache.get("user", firstPage, loader());
+        cache.get("user", firstPage, loader());
+
+        assertEquals(2, loads.get());
+        verifyNoInteractions(versions);
+    }
+
+    private Supplier<Page<Task>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(Task.builder().id("t" + loads.get()).build()));
+        };
+    }
+}
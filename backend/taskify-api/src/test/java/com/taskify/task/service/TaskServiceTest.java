@@ -1,27 +1,43 @@
 package com.taskify.task.service;
 
+import com.taskify.exception.BadRequestException;
 import com.taskify.exception.ResourceNotFoundException;
+import com.taskify.task.dto.TaskFilterDTO;
 import com.taskify.task.dto.TaskRequestDTO;
+import com.taskify.task.dto.TaskSliceDTO;
 import com.taskify.task.model.Priority;
 import com.taskify.task.model.Task;
+import com.taskify.task.recurrence.RecurrenceEngine;
+import com.taskify.task.recurrence.TaskOccurrence;
+import com.taskify.task.repository.TaskCursor;
+import com.taskify.task.repository.TaskFields;
+import com.taskify.task.repository.TaskFilter;
 import com.taskify.task.repository.TaskRepository;
+import com.taskify.task.search.TaskSearchIndex;
+import com.taskify.task.stream.TaskEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +47,21 @@ class TaskServiceTest {
     @Mock
     private TaskRepository repository;
 
+    @Spy
+    private RecurrenceEngine recurrenceEngine = new RecurrenceEngine();
+
+    @Mock
+    private TaskVersionService versions;
+
+    @Spy
+    private TaskReadCache readCache = new TaskReadCache(null, new SimpleMeterRegistry(), false, 0, 0, Duration.ZERO);
+
+    @Mock
+    private TaskEventPublisher events;
+
+    @Mock
+    private TaskSearchIndex searchIndex;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -64,68 +95,223 @@ class TaskServiceTest {
     @Test
     void list_ReturnsPageOfTasks() {
         Page<Task> taskPage = new PageImpl<>(Arrays.asList(task));
-        when(repository.findByUserId(eq(userId), any(Pageable.class))).thenReturn(taskPage);
+        when(repository.findFiltered(eq(userId), eq(TaskFilter.NONE), any(Pageable.class), eq(TaskFields.ALL))).thenReturn(taskPage);
 
-        Page<Task> result = taskService.list(userId, null, null, pageable);
+        Page<Task> result = taskService.list(userId, new TaskFilterDTO(), pageable);
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.getTotalElements());
         assertEquals(task.getTitle(), result.getContent().get(0).getTitle());
     }
 
+    @Test
+    void list_TranslatesFilters() {
+        TaskFilterDTO filter = TaskFilterDTO.builder()
+                .completed(false)
+                .priority("high")
+                .from(LocalDate.parse("2026-01-01"))
+                .to(LocalDate.parse("2026-01-31"))
+                .hasRecurrence(true)
+                .title("Gym")
+                .build();
+        TaskFilter expected = TaskFilter.builder()
+                .completed(false)
+                .priority(Priority.HIGH)
+                .dateFrom("2026-01-01")
+                .dateTo("2026-01-31")
+                .hasRecurrence(true)
+                .titlePrefix("Gym")
+                .build();
+        when(repository.findFiltered(userId, expected, pageable, TaskFields.ALL)).thenReturn(Page.empty());
+
+        assertTrue(taskService.list(userId, filter, pageable).isEmpty());
+    }
+
+    @Test
+    void list_InvalidFilters_ThrowsException() {
+        TaskFilterDTO badPriority = TaskFilterDTO.builder().priority("urgent").build();
+        TaskFilterDTO badRange = TaskFilterDTO.builder()
+                .from(LocalDate.parse("2026-02-01"))
+                .to(LocalDate.parse("2026-01-01"))
+                .build();
+
+        assertThrows(BadRequestException.class, () -> taskService.list(userId, badPriority, pageable));
+        assertThrows(BadRequestException.class, () -> taskService.list(userId, badRange, pageable));
+    }
+
+    @Test
+    void listSlice_ReturnsCursorForNextPage() {
+        TaskFilter filter = TaskFilter.builder().priority(Priority.LOW).build();
+        when(repository.findSlice(userId, filter, null, 1, TaskFields.ALL))
+                .thenReturn(new SliceImpl<>(List.of(task), PageRequest.of(0, 1), true));
+
+        TaskSliceDTO<Task> result = taskService.listSlice(userId, TaskFilterDTO.builder().priority("low").build(), "", 1,
+                false);
+
+        assertTrue(result.isHasNext());
+        assertNull(result.getTotalElements());
+        assertEquals(new TaskCursor(task.getTaskDate(), "task-1").encode(), result.getNextCursor());
+        verify(repository, never()).countFiltered(any(), any());
+    }
+
+    @Test
+    void listSlice_ContinuesFromCursorAndCountsOnRequest() {
+        TaskCursor cursor = new TaskCursor(null, "65f1a2b3c4d5e6f7a8b9c0d1");
+        TaskFilter filter = TaskFilter.builder().completed(true).build();
+        when(repository.findSlice(userId, filter, cursor, 100, TaskFields.ALL))
+                .thenReturn(new SliceImpl<>(List.of(task), PageRequest.of(0, 100), false));
+        when(repository.countFiltered(userId, filter)).thenReturn(2L);
+
+        TaskSliceDTO<Task> result = taskService.listSlice(userId, TaskFilterDTO.builder().completed(true).build(),
+                cursor.encode(), 1000, true);
+
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(2L, result.getTotalElements());
+    }
+
+    @Test
+    void listSlice_TamperedCursor_ThrowsBadRequest() {
+        String notAnObjectId = new TaskCursor("2026-03-01", "task-0").encode();
+
+        assertThrows(BadRequestException.class,
+                () -> taskService.listSlice(userId, null, notAnObjectId, 10, false));
+        assertThrows(BadRequestException.class,
+                () -> taskService.listSlice(userId, null, "not base64!", 10, false));
+        verify(repository, never()).findSlice(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void listSlice_WithFields_ProjectsTaskDateForCursor() {
+        when(repository.findSlice(eq(userId), eq(TaskFilter.NONE), isNull(), eq(1),
+                eq(TaskFields.parse("title,taskDate"))))
+                .thenReturn(new SliceImpl<>(List.of(task), PageRequest.of(0, 1), true));
+
+        TaskSliceDTO<Task> result = taskService.listSlice(userId, null, "", 1, false, TaskFields.parse("title"));
+
+        assertNotNull(result.getNextCursor());
+    }
+
+    @Test
+    void listSlice_InvalidCursor_ThrowsException() {
+        assertThrows(BadRequestException.class, () -> taskService.listSlice(userId, null, "%%%", 10, false));
+    }
+
+    @Test
+    void search_ClampsSizeAndRejectsBlankQuery() {
+        when(searchIndex.search(userId, "gym", 50)).thenReturn(List.of(task));
+
+        assertEquals(List.of(task), taskService.search(userId, " gym ", 500));
+        assertThrows(BadRequestException.class, () -> taskService.search(userId, " ", 10));
+        assertThrows(BadRequestException.class, () -> taskService.search(userId, "x".repeat(101), 10));
+    }
+
+    @Test
+    void calendar_ExpandsRecurringTasks() {
+        Task weekly = Task.builder()
+                .id("task-2")
+                .title("Gym")
+                .taskDate("2026-01-01")
+                .repeatDays(List.of("MONDAY", "THURSDAY"))
+                .excludedDates(List.of("2026-01-08"))
+                .userId(userId)
+                .build();
+        when(repository.findCalendarCandidates(userId, "2026-01-05", "2026-01-11")).thenReturn(List.of(weekly));
+
+        List<TaskOccurrence> result = taskService.calendar(userId, LocalDate.parse("2026-01-05"),
+                LocalDate.parse("2026-01-11"));
+
+        assertEquals(1, result.size());
+        assertEquals(LocalDate.parse("2026-01-05"), result.get(0).date());
+    }
+
+    @Test
+    void calendar_InvalidRange_ThrowsException() {
+        LocalDate today = LocalDate.now();
+
+        assertThrows(BadRequestException.class, () -> taskService.calendar(userId, today, today.minusDays(1)));
+        assertThrows(BadRequestException.class, () -> taskService.calendar(userId, today, today.plusYears(2)));
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void create_ReturnsCreatedTask() {
         when(repository.save(any(Task.class))).thenReturn(task);
+        when(versions.bump(userId)).thenReturn(5L);
 
         Task result = taskService.create(taskRequestDTO, userId);
 
         assertNotNull(result);
         assertEquals(task.getTitle(), result.getTitle());
         verify(repository).save(any(Task.class));
+        verify(versions).bump(userId);
+        verify(readCache).invalidate(userId);
+        verify(searchIndex).indexed(task, 5L);
     }
 
     @Test
     void update_Success() {
-        when(repository.findById("task-1")).thenReturn(Optional.of(task));
-        when(repository.save(any(Task.class))).thenReturn(task);
+        task.setTitle(taskRequestDTO.getTitle());
+        when(repository.updateDetails(eq("task-1"), eq(userId), any(Task.class))).thenReturn(Optional.of(task));
 
         Task result = taskService.update("task-1", taskRequestDTO, userId);
 
         assertNotNull(result);
         assertEquals(taskRequestDTO.getTitle(), result.getTitle());
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any(Task.class));
     }
 
     @Test
     void update_TaskNotFound_ThrowsException() {
-        when(repository.findById("task-1")).thenReturn(Optional.empty());
+        when(repository.updateDetails(eq("task-1"), eq(userId), any(Task.class))).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.update("task-1", taskRequestDTO, userId));
     }
 
     @Test
     void update_Forbidden_ThrowsException() {
-        task.setUserId("other-user");
-        when(repository.findById("task-1")).thenReturn(Optional.of(task));
+        when(repository.updateDetails(eq("task-1"), eq("other-user"), any(Task.class))).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> taskService.update("task-1", taskRequestDTO, userId));
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.update("task-1", taskRequestDTO, "other-user"));
     }
 
     @Test
     void delete_Success() {
-        when(repository.findById("task-1")).thenReturn(Optional.of(task));
+        when(repository.deleteByIdAndUserId("task-1", userId)).thenReturn(1L);
 
         taskService.delete("task-1", userId);
 
-        verify(repository).deleteById("task-1");
+        verify(repository).deleteByIdAndUserId("task-1", userId);
+        verify(versions).bump(userId);
+        verify(searchIndex).removed(userId, "task-1", 0L);
+        verify(events).deleted(userId, "task-1");
+    }
+
+    @Test
+    void delete_NotOwned_ThrowsException() {
+        when(repository.deleteByIdAndUserId("task-1", userId)).thenReturn(0L);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.delete("task-1", userId));
+        verify(versions, never()).bump(any());
+        verifyNoInteractions(events);
     }
 
     @Test
     void toggleComplete_Success() {
-        when(repository.findById("task-1")).thenReturn(Optional.of(task));
-        when(repository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+        task.setCompleted(true);
+        when(repository.updateCompleted("task-1", userId, true)).thenReturn(Optional.of(task));
 
         Task result = taskService.toggleComplete("task-1", userId, true);
 
         assertTrue(result.isCompleted());
     }
+
+    @Test
+    void excludeDate_NotFound_ThrowsException() {
+        when(repository.addExcludedDate("task-1", userId, "2026-01-01")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.excludeDate("task-1", userId, "2026-01-01"));
+    }
 }
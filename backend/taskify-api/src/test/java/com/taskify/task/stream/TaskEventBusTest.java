@@ -0,0 +1,69 @@
+package com.taskify.task.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bus = new TaskEventBus(new ObjectMapper(), meterRegistry, 8, 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.shutdown();
+    }
+
+    @Test
+    void subscribe_TracksSubscribersPerUser() {
+        bus.subscribe("a@example.com");
+        bus.subscribe("a@example.com");
+        bus.subscribe("b@example.com");
+
+        assertEquals(2, bus.subscriberCount("a@example.com"));
+        assertEquals(1, bus.subscriberCount("b@example.com"));
+        assertTrue(bus.hasSubscribers("a@example.com"));
+        assertFalse(bus.hasSubscribers("c@example.com"));
+        assertEquals(3, meterRegistry.get("taskify.task.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    void subscribe_OverLimit_ThrowsServiceUnavailable() {
+        bus.subscribe("a@example.com");
+        bus.subscribe("a@example.com");
+
+        assertThrows(ServiceUnavailableException.class, () -> bus.subscribe("a@example.com"));
+        assertEquals(2, bus.subscriberCount("a@example.com"));
+    }
+
+    @Test
+    void publish_WithoutSubscribers_DoesNothing() {
+        assertDoesNotThrow(() -> bus.publish(TaskEvent.deleted("a@example.com", "task-1")));
+        assertEquals(0, bus.subscriberCount("a@example.com"));
+    }
+
+    @Test
+    void shutdown_ClosesAllSubscribers() {
+        bus.subscribe("a@example.com");
+        bus.subscribe("b@example.com");
+
+        bus.shutdown();
+
+        assertFalse(bus.hasSubscribers("a@example.com"));
+        assertFalse(bus.hasSubscribers("b@example.com"));
+        assertEquals(0, meterRegistry.get("taskify.task.stream.subscribers").gauge().value());
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskify.bench;
+
+import org.openjdk.jmh.Main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Punto de entrada de benchmarks.jar. Acepta los mismos argumentos que
+ * {@link org.openjdk.jmh.Main} y, si no se indica otro formato, guarda los
+ * resultados en JSON (target/jmh-results.json, relativo al directorio actual)
+ * para comparar entre versiones.
+ *
+ * java -jar target/benchmarks.jar [regex] [opciones JMH]
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<>(Arrays.asList(args));
+        if (!options.contains("-rf")) {
+            options.addAll(List.of("-rf", "json"));
+        }
+        if (!options.contains("-rff")) {
+            options.addAll(List.of("-rff", "target/jmh-results.json"));
+        }
+        // JMH no crea el directorio del fichero de resultados y la ruta es relativa al directorio actual
+        int resultFile = options.indexOf("-rff") + 1;
+        if (resultFile < options.size()) {
+            Path parent = Path.of(options.get(resultFile)).toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+        }
+        Main.main(options.toArray(String[]::new));
+    }
+}
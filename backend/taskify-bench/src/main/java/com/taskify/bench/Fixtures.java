@@ -0,0 +1,43 @@
+package com.taskify.bench;
+
+import com.taskify.task.model.Priority;
+import com.taskify.task.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class Fixtures {
+
+    // 32 bytes: mínimo para HS256
+    static final String SECRET = "taskify-benchmark-secret-0123456789";
+
+    private Fixtures() {
+    }
+
+    static Task task(int i) {
+        LocalDate date = LocalDate.of(2026, 1, 1).plusDays(i % 365);
+        return Task.builder()
+                .id(String.format("%024x", i))
+                .userId("bench@example.com")
+                .title("Task " + i)
+                .description("Description of task " + i + " with a few more words to look like real data")
+                .taskDate(date.toString())
+                .completed(i % 2 == 0)
+                .priority(Priority.values()[i % 3])
+                .repeatDays(i % 4 == 0 ? new ArrayList<>(List.of("MONDAY", "WEDNESDAY")) : new ArrayList<>())
+                .excludedDates(i % 4 == 0 ? new ArrayList<>(List.of(date.plusDays(7).toString())) : new ArrayList<>())
+                .createdAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                .updatedAt(LocalDateTime.of(2026, 1, 2, 9, 0))
+                .build();
+    }
+
+    static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i));
+        }
+        return tasks;
+    }
+}
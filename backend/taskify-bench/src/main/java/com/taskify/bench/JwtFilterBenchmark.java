@@ -0,0 +1,54 @@
+package com.taskify.bench;
+
+import com.taskify.auth.jwt.JwtFilter;
+import com.taskify.auth.jwt.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter completo: cabecera Authorization, verificación, SecurityContext y timer.
+ * {@code cacheSize = 0} mide el coste sin la caché de tokens verificados.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({ "0", "10000" })
+    public int cacheSize;
+
+    private JwtFilter filter;
+    private String authorization;
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService(Fixtures.SECRET, cacheSize);
+        filter = new JwtFilter(jwtService, new SimpleMeterRegistry());
+        authorization = "Bearer " + jwtService.generateToken("bench@example.com");
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setServletPath("/api/tasks");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        Object userId = request.getAttribute("userId");
+        SecurityContextHolder.clearContext();
+        return userId;
+    }
+}
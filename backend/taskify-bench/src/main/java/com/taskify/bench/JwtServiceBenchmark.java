@@ -0,0 +1,41 @@
+package com.taskify.bench;
+
+import com.taskify.auth.jwt.JwtService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(Fixtures.SECRET, 10_000);
+        token = jwtService.generateToken("bench@example.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("bench@example.com");
+    }
+
+    // Parseo y verificación completos, sin caché
+    @Benchmark
+    public String extractUserId() {
+        return jwtService.extractUserId(token);
+    }
+
+    // Camino de JwtFilter: token repetido servido desde la caché de tokens verificados
+    @Benchmark
+    public Object verifyCached() {
+        return jwtService.verify(token);
+    }
+}
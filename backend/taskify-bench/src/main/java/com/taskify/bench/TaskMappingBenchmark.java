@@ -0,0 +1,29 @@
+package com.taskify.bench;
+
+import com.taskify.task.dto.TaskResponseDTO;
+import com.taskify.task.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Mapeo Task -> TaskResponseDTO que hace TaskController en create/update/calendar
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        task = Fixtures.task(4);
+    }
+
+    @Benchmark
+    public TaskResponseDTO toResponse() {
+        return TaskResponseDTO.from(task);
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskify.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.task.model.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Serialización de la respuesta de GET /api/tasks con el ObjectMapper que construye Spring Boot
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPageSerializationBenchmark {
+
+    @Param({ "20", "100", "1000" })
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Task> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        page = new PageImpl<>(Fixtures.tasks(pageSize), PageRequest.of(0, pageSize), 5_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskify.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Cliente HTTP de los escenarios. Cada llamada lleva la etiqueta del endpoint
+ * (método y ruta con plantilla, p. ej. "PUT /api/tasks/{id}/complete") con la
+ * que se agrupa su latencia, medida hasta leer el cuerpo completo. Una
+ * respuesta que no es 2xx cuenta como error y aborta el escenario.
+ */
+final class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI base;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+
+    ApiClient(HttpClient http, URI base, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.http = http;
+        this.base = base;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    JsonNode get(String endpoint, String path, String token) throws IOException, InterruptedException {
+        return send(endpoint, "GET", path, token, null, null);
+    }
+
+    JsonNode post(String endpoint, String path, String token, Object body) throws IOException, InterruptedException {
+        return send(endpoint, "POST", path, token, "application/json", objectMapper.writeValueAsBytes(body));
+    }
+
+    JsonNode put(String endpoint, String path, String token, Object body) throws IOException, InterruptedException {
+        return send(endpoint, "PUT", path, token, "application/json",
+                body == null ? null : objectMapper.writeValueAsBytes(body));
+    }
+
+    JsonNode delete(String endpoint, String path, String token) throws IOException, InterruptedException {
+        return send(endpoint, "DELETE", path, token, null, null);
+    }
+
+    JsonNode send(String endpoint, String method, String path, String token, String contentType, byte[] body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(base.resolve(path.substring(1)))
+                .timeout(TIMEOUT)
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        if (contentType != null) {
+            request.header("Content-Type", contentType);
+        }
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+        boolean ok = response.statusCode() / 100 == 2;
+        recorder.record(endpoint, System.nanoTime() - start, ok);
+
+        if (!ok) {
+            throw new IOException(endpoint + " returned HTTP " + response.statusCode());
+        }
+        return response.body().length == 0 ? NullNode.getInstance() : objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskify.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Datos de partida de los escenarios browse y edit: usuarios con sesión
+ * abierta y tareas variadas (fechas alrededor de hoy, prioridades, algunas
+ * recurrentes), creados a través de la propia API antes de medir.
+ */
+final class Fixtures {
+
+    static final String PASSWORD = "load-test-password";
+
+    private static final String[] TITLES = {
+            "Revisar informe", "Comprar pan", "Llamar al médico", "Preparar reunión", "Pagar facturas",
+            "Entrenar piernas", "Leer capítulo", "Enviar presupuesto", "Regar plantas", "Planificar semana" };
+    private static final String[] PRIORITIES = { "HIGH", "MEDIUM", "LOW" };
+    static final String[] SEARCH_TERMS = { "informe", "reunion", "medico", "factu", "plan" };
+
+    record SeedUser(String email, String token, List<String> taskIds) {
+    }
+
+    private final List<SeedUser> users;
+
+    private Fixtures(List<SeedUser> users) {
+        this.users = users;
+    }
+
+    static Fixtures seed(ApiClient api, ObjectMapper objectMapper, int userCount, int tasksPerUser)
+            throws IOException, InterruptedException {
+        // Un prefijo por ejecución permite repetir contra una API ya desplegada
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<SeedUser> users = new ArrayList<>();
+
+        for (int u = 0; u < userCount; u++) {
+            String email = "seed-" + run + "-" + u + "@example.com";
+            String token = api.post("POST /api/auth/register", "/api/auth/register", null,
+                    Map.of("name", "Seed " + u, "email", email, "password", PASSWORD)).get("token").asText();
+
+            StringBuilder ndjson = new StringBuilder();
+            for (int i = 0; i < tasksPerUser; i++) {
+                ndjson.append(objectMapper.writeValueAsString(task(i))).append('\n');
+            }
+            api.send("POST /api/tasks/import", "POST", "/api/tasks/import", token, "application/x-ndjson",
+                    ndjson.toString().getBytes());
+
+            List<String> ids = new ArrayList<>();
+            for (JsonNode task : api.get("GET /api/tasks?fields", "/api/tasks?fields=id&size=" + tasksPerUser, token)
+                    .get("content")) {
+                ids.add(task.get("id").asText());
+            }
+            users.add(new SeedUser(email, token, List.copyOf(ids)));
+        }
+        return new Fixtures(List.copyOf(users));
+    }
+
+    SeedUser randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    static Map<String, Object> task(int i) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("title", TITLES[i % TITLES.length] + " " + i);
+        task.put("description", "Tarea generada por la prueba de carga");
+        // Una de cada diez sin fecha, el resto entre dos semanas atrás y dos adelante
+        task.put("taskDate", i % 10 == 0 ? null : LocalDate.now().plusDays(random.nextInt(-14, 15)).toString());
+        task.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        task.put("repeatDays", i % 7 == 0 ? List.of("MONDAY", "THURSDAY") : List.of());
+        return task;
+    }
+}
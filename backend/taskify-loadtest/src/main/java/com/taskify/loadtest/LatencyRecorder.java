@@ -0,0 +1,129 @@
+package com.taskify.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias por endpoint en histogramas HDR (microsegundos, 3 cifras
+ * significativas): registrar no bloquea y los percentiles no dependen de
+ * guardar cada muestra. También cuenta los escenarios completados y fallidos
+ * y las llegadas descartadas del modelo abierto.
+ */
+final class LatencyRecorder {
+
+    private static final int MAX_FAILURE_KINDS = 20;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Endpoint> scenarios = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(String endpoint, long nanos, boolean ok) {
+        endpoints.computeIfAbsent(endpoint, name -> new Endpoint()).record(nanos, ok);
+    }
+
+    void scenario(Scenario scenario, long nanos, boolean ok) {
+        scenarios.computeIfAbsent(scenario.label(), name -> new Endpoint()).record(nanos, ok);
+    }
+
+    // Causas de los escenarios fallidos; se guardan las primeras distintas
+    void failure(Scenario scenario, Exception cause) {
+        String key = scenario.label() + ": " + cause;
+        LongAdder count = failures.get(key);
+        if (count == null && failures.size() < MAX_FAILURE_KINDS) {
+            count = failures.computeIfAbsent(key, k -> new LongAdder());
+        }
+        if (count != null) {
+            count.increment();
+        }
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    // Tras la preparación y el calentamiento
+    void reset() {
+        endpoints.clear();
+        scenarios.clear();
+        failures.clear();
+        dropped.reset();
+    }
+
+    long droppedCount() {
+        return dropped.sum();
+    }
+
+    Map<String, Long> failuresReport() {
+        Map<String, Long> report = new TreeMap<>();
+        failures.forEach((cause, count) -> report.put(cause, count.sum()));
+        return report;
+    }
+
+    Map<String, Object> endpointsReport(double seconds) {
+        return report(endpoints, seconds);
+    }
+
+    Map<String, Object> scenariosReport(double seconds) {
+        return report(scenarios, seconds);
+    }
+
+    Map<String, Object> totalReport(double seconds) {
+        Endpoint total = new Endpoint();
+        endpoints.values().forEach(total::add);
+        return total.report(seconds);
+    }
+
+    private static Map<String, Object> report(Map<String, Endpoint> stats, double seconds) {
+        Map<String, Object> report = new TreeMap<>();
+        stats.forEach((name, endpoint) -> report.put(name, endpoint.report(seconds)));
+        return report;
+    }
+
+    private static final class Endpoint {
+
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean ok) {
+            latencies.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        void add(Endpoint other) {
+            latencies.add(other.latencies);
+            errors.add(other.errors.sum());
+        }
+
+        Map<String, Object> report(double seconds) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            long count = latencies.getTotalCount();
+            report.put("count", count);
+            report.put("errors", errors.sum());
+            report.put("throughputPerSecond", round(count / seconds));
+            report.put("meanMs", round(latencies.getMean() / 1000));
+            report.put("p50Ms", millis(50));
+            report.put("p95Ms", millis(95));
+            report.put("p99Ms", millis(99));
+            report.put("maxMs", round(latencies.getMaxValue() / 1000.0));
+            return report;
+        }
+
+        private double millis(double percentile) {
+            return round(latencies.getValueAtPercentile(percentile) / 1000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 1000) / 1000.0;
+        }
+    }
+}
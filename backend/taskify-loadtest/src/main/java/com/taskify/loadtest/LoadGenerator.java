@@ -0,0 +1,96 @@
+package com.taskify.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Ejecuta la mezcla de escenarios durante un tiempo, en hilos virtuales.
+ *
+ * Modelo cerrado (sin {@code rate}): {@code concurrency} usuarios encadenan
+ * escenarios sin pausa; el rendimiento es el que da el servidor. Modelo
+ * abierto: los escenarios empiezan a ritmo fijo aunque el servidor se retrase,
+ * así que la latencia medida incluye las colas (sin coordinated omission);
+ * si ya hay {@code concurrency} en curso la llegada se descarta y se cuenta.
+ */
+final class LoadGenerator {
+
+    private final LoadTestOptions options;
+    private final ApiClient api;
+    private final Fixtures fixtures;
+    private final LatencyRecorder recorder;
+    private final Scenario[] weighted;
+
+    LoadGenerator(LoadTestOptions options, ApiClient api, Fixtures fixtures, LatencyRecorder recorder) {
+        this.options = options;
+        this.api = api;
+        this.fixtures = fixtures;
+        this.recorder = recorder;
+        this.weighted = options.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Scenario[]::new);
+    }
+
+    void run(Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        if (options.openModel()) {
+            open(deadline);
+        } else {
+            closed(deadline);
+        }
+    }
+
+    private void closed(long deadline) {
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                users.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        runOnce();
+                    }
+                });
+            }
+        }
+    }
+
+    private void open(long deadline) {
+        Semaphore inFlight = new Semaphore(options.concurrency());
+        long interval = (long) (1_000_000_000L / options.rate());
+
+        try (ExecutorService arrivals = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long next = System.nanoTime(); next < deadline; next += interval) {
+                LockSupport.parkNanos(next - System.nanoTime());
+                if (!inFlight.tryAcquire()) {
+                    recorder.dropped();
+                    continue;
+                }
+                arrivals.submit(() -> {
+                    try {
+                        runOnce();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void runOnce() {
+        Scenario scenario = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+        long start = System.nanoTime();
+        boolean ok = true;
+        try {
+            scenario.run(api, fixtures);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ok = false;
+        } catch (Exception e) {
+            recorder.failure(scenario, e);
+            ok = false;
+        }
+        recorder.scenario(scenario, System.nanoTime() - start, ok);
+    }
+}
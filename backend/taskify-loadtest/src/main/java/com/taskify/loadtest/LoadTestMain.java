@@ -0,0 +1,113 @@
+package com.taskify.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskify.TaskifyApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Prueba de carga de extremo a extremo. Sin {@code --target} arranca la API
+ * en este mismo proceso con el perfil inmemory (sin MongoDB ni límite de
+ * peticiones), crea los usuarios de partida, calienta y mide la mezcla de
+ * escenarios. El informe (JSON) recoge rendimiento y p50/p95/p99 por endpoint
+ * y por escenario.
+ *
+ * mvn package -DskipTests (desde backend/)
+ * java -jar taskify-loadtest/target/taskify-loadtest-0.0.1-SNAPSHOT.jar [--concurrency=50] [--rate=0]
+ *     [--duration=30s] [--mix=lifecycle:1,browse:6,edit:3] [--spring.threads.virtual.enabled=true]
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        Map<String, Object> report = run(options);
+        System.out.println(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report));
+    }
+
+    static Map<String, Object> run(LoadTestOptions options) throws Exception {
+        ConfigurableApplicationContext app = options.target() == null ? boot(options.appArgs()) : null;
+        try {
+            URI base = app == null ? options.target()
+                    : URI.create("http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort() + "/");
+            return run(options, base);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(List<String> appArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--management.server.port=-1",
+                // Unos pocos usuarios generan toda la carga: el límite falsearía la medida
+                "--ratelimit.enabled=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        args.addAll(appArgs);
+        return new SpringApplicationBuilder(TaskifyApiApplication.class)
+                .profiles("inmemory")
+                .run(args.toArray(String[]::new));
+    }
+
+    private static Map<String, Object> run(LoadTestOptions options, URI base) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        ApiClient api = new ApiClient(http, base, objectMapper, recorder);
+
+        Fixtures fixtures = Fixtures.seed(api, objectMapper, options.seedUsers(), options.tasksPerUser());
+        LoadGenerator generator = new LoadGenerator(options, api, fixtures, recorder);
+        if (!options.warmup().isZero()) {
+            generator.run(options.warmup());
+        }
+        recorder.reset();
+
+        long start = System.nanoTime();
+        generator.run(options.duration());
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", options.target() == null ? "embedded (inmemory profile)" : options.target().toString());
+        report.put("model", options.openModel() ? "open" : "closed");
+        report.put("concurrency", options.concurrency());
+        report.put("arrivalRatePerSecond", options.rate());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((scenario, weight) -> mix.put(scenario.label(), weight));
+        report.put("mix", mix);
+        report.put("durationSeconds", Math.round(seconds * 1000) / 1000.0);
+        report.put("droppedArrivals", recorder.droppedCount());
+        report.put("total", recorder.totalReport(seconds));
+        report.put("scenarios", recorder.scenariosReport(seconds));
+        report.put("endpoints", recorder.endpointsReport(seconds));
+        report.put("failures", recorder.failuresReport());
+
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.output().toFile(), report);
+        return report;
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskify.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opciones de la línea de comandos ({@code --nombre=valor}). Las que no son
+ * del generador de carga se pasan a la aplicación arrancada, por ejemplo
+ * {@code --spring.threads.virtual.enabled=true} o {@code --ratelimit.enabled=true}.
+ *
+ * @param target       API ya desplegada; si es null se arranca la aplicación en este proceso con el perfil inmemory
+ * @param concurrency  usuarios simultáneos (modelo cerrado) o máximo de escenarios en curso (modelo abierto)
+ * @param rate         escenarios iniciados por segundo; con 0 cada usuario encadena escenarios sin pausa
+ * @param mix          peso de cada escenario
+ */
+record LoadTestOptions(
+        URI target,
+        int concurrency,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        Map<Scenario, Integer> mix,
+        int seedUsers,
+        int tasksPerUser,
+        Path output,
+        List<String> appArgs) {
+
+    static final String USAGE = """
+            java -jar taskify-loadtest.jar [opciones] [--propiedad.de.la.api=valor ...]
+              --target=URL          API ya desplegada (por defecto arranca la API con el perfil inmemory)
+              --concurrency=50      usuarios simultáneos, o escenarios en curso como máximo con --rate
+              --rate=0              escenarios iniciados por segundo (modelo abierto); 0 = modelo cerrado
+              --duration=30s        duración de la medición
+              --warmup=5s           calentamiento previo, no se incluye en el informe
+              --mix=lifecycle:1,browse:6,edit:3
+              --seed-users=20       usuarios con tareas creados antes de medir (browse, edit)
+              --tasks-per-user=50
+              --output=target/loadtest/report.json""";
+
+    static LoadTestOptions parse(String... args) {
+        URI target = null;
+        int concurrency = 50;
+        double rate = 0;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(5);
+        Map<Scenario, Integer> mix = parseMix("lifecycle:1,browse:6,edit:3");
+        int seedUsers = 20;
+        int tasksPerUser = 50;
+        Path output = Path.of("target/loadtest/report.json");
+        List<String> appArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Unexpected argument '" + arg + "'\n" + USAGE);
+            }
+            String value = arg.substring(equals + 1);
+            switch (arg.substring(2, equals)) {
+                case "target" -> target = URI.create(value.endsWith("/") ? value : value + "/");
+                case "concurrency" -> concurrency = Integer.parseInt(value);
+                case "rate" -> rate = Double.parseDouble(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "mix" -> mix = parseMix(value);
+                case "seed-users" -> seedUsers = Integer.parseInt(value);
+                case "tasks-per-user" -> tasksPerUser = Integer.parseInt(value);
+                case "output" -> output = Path.of(value);
+                default -> appArgs.add(arg);
+            }
+        }
+
+        if (concurrency <= 0 || rate < 0 || seedUsers <= 0 || tasksPerUser <= 0) {
+            throw new IllegalArgumentException("concurrency, seed-users and tasks-per-user must be positive and rate not negative");
+        }
+        return new LoadTestOptions(target, concurrency, rate, duration, warmup, mix, seedUsers, tasksPerUser,
+                output, List.copyOf(appArgs));
+    }
+
+    private static Map<Scenario, Integer> parseMix(String spec) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) {
+                mix.put(Scenario.parse(parts[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The scenario mix is empty");
+        }
+        return mix;
+    }
+
+    boolean openModel() {
+        return rate > 0;
+    }
+}
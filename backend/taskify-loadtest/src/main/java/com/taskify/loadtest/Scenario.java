@@ -0,0 +1,101 @@
+package com.taskify.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Recorridos de un cliente por la API. Cada ejecución es independiente; los
+ * que trabajan sobre usuarios existentes los toman de {@link Fixtures}.
+ */
+enum Scenario {
+
+    /**
+     * Ciclo de vida completo de un usuario nuevo: registro, login, alta de
+     * tareas, listado y filtro, completar, refresh y logout. Incluye los dos
+     * BCrypt (registro y login) por ejecución.
+     */
+    LIFECYCLE {
+        @Override
+        void run(ApiClient api, Fixtures fixtures) throws Exception {
+            String email = "lt-" + UUID.randomUUID() + "@example.com";
+            api.post("POST /api/auth/register", "/api/auth/register", null,
+                    Map.of("name", "Load Test", "email", email, "password", Fixtures.PASSWORD));
+            JsonNode session = api.post("POST /api/auth/login", "/api/auth/login", null,
+                    Map.of("email", email, "password", Fixtures.PASSWORD));
+            String token = session.get("token").asText();
+            String refreshToken = session.get("refreshToken").asText();
+
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                ids.add(api.post("POST /api/tasks", "/api/tasks", token, Fixtures.task(i)).get("id").asText());
+            }
+            api.get("GET /api/tasks", "/api/tasks?page=0&size=20&sort=taskDate,asc", token);
+            api.get("GET /api/tasks?filter", "/api/tasks?completed=false&priority=HIGH", token);
+            api.put("PUT /api/tasks/{id}/complete", "/api/tasks/" + ids.get(0) + "/complete?completed=true", token, null);
+
+            api.post("POST /api/auth/refresh", "/api/auth/refresh", null, Map.of("refreshToken", refreshToken));
+            api.post("POST /api/auth/logout", "/api/auth/logout", null, Map.of("refreshToken", refreshToken));
+        }
+    },
+
+    /**
+     * Lecturas de un usuario con sesión abierta: página, filtro, hoy, keyset,
+     * estadísticas y búsqueda.
+     */
+    BROWSE {
+        @Override
+        void run(ApiClient api, Fixtures fixtures) throws Exception {
+            String token = fixtures.randomUser().token();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            api.get("GET /api/tasks", "/api/tasks?page=0&size=20&sort=taskDate,asc", token);
+            api.get("GET /api/tasks?filter", "/api/tasks?completed=false&priority=HIGH", token);
+            api.get("GET /api/tasks/today", "/api/tasks/today", token);
+            api.get("GET /api/tasks?cursor", "/api/tasks?cursor=&size=20", token);
+            api.get("GET /api/tasks/stats", "/api/tasks/stats", token);
+            api.get("GET /api/tasks/search", "/api/tasks/search?q="
+                    + Fixtures.SEARCH_TERMS[random.nextInt(Fixtures.SEARCH_TERMS.length)], token);
+        }
+    },
+
+    /**
+     * Escrituras de un usuario con sesión abierta: completar una tarea
+     * existente y crear, editar y borrar otra (el número de tareas no crece).
+     */
+    EDIT {
+        @Override
+        void run(ApiClient api, Fixtures fixtures) throws Exception {
+            Fixtures.SeedUser user = fixtures.randomUser();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String existing = user.taskIds().get(random.nextInt(user.taskIds().size()));
+
+            api.put("PUT /api/tasks/{id}/complete",
+                    "/api/tasks/" + existing + "/complete?completed=" + random.nextBoolean(), user.token(), null);
+
+            Map<String, Object> task = Fixtures.task(random.nextInt(1000));
+            String id = api.post("POST /api/tasks", "/api/tasks", user.token(), task).get("id").asText();
+            task.put("title", "Editada " + random.nextInt(1000));
+            api.put("PUT /api/tasks/{id}", "/api/tasks/" + id, user.token(), task);
+            api.delete("DELETE /api/tasks/{id}", "/api/tasks/" + id, user.token());
+        }
+    };
+
+    abstract void run(ApiClient api, Fixtures fixtures) throws Exception;
+
+    String label() {
+        return name().toLowerCase();
+    }
+
+    static Scenario parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown scenario '" + name + "', expected lifecycle, browse or edit");
+        }
+    }
+}
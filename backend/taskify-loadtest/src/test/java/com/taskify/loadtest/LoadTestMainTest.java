@@ -0,0 +1,38 @@
+package com.taskify.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestMainTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shortRunReportsEveryEndpointWithoutErrors() throws Exception {
+        Map<String, Object> report = LoadTestMain.run(LoadTestOptions.parse(
+                "--duration=2s", "--warmup=0s", "--concurrency=4", "--seed-users=2", "--tasks-per-user=10",
+                "--output=target/loadtest/test-report.json"));
+
+        Map<String, Map<String, Object>> endpoints = (Map<String, Map<String, Object>>) report.get("endpoints");
+        assertTrue(endpoints.keySet().containsAll(java.util.List.of(
+                "POST /api/auth/login", "POST /api/auth/logout", "GET /api/tasks/today", "PUT /api/tasks/{id}/complete")),
+                endpoints.keySet()::toString);
+
+        Map<String, Object> total = (Map<String, Object>) report.get("total");
+        assertEquals(0L, total.get("errors"), () -> String.valueOf(report.get("failures")));
+        assertTrue((Long) total.get("count") > 0);
+    }
+
+    @Test
+    void parse_PassesUnknownOptionsToTheApplication() {
+        LoadTestOptions options = LoadTestOptions.parse("--rate=20", "--mix=browse:3,edit:0",
+                "--spring.threads.virtual.enabled=true");
+
+        assertTrue(options.openModel());
+        assertEquals(Map.of(Scenario.BROWSE, 3), options.mix());
+        assertEquals(java.util.List.of("--spring.threads.virtual.enabled=true"), options.appArgs());
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--mix=unknown:1"));
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskify.reactive;
+
+import com.taskify.auth.jwt.JwtService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+@SpringBootApplication
+@Import(JwtService.class)
+public class TaskifyReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(TaskifyReactiveApplication.class, args);
+	}
+
+}
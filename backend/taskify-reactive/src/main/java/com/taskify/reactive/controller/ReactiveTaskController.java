@@ -0,0 +1,40 @@
+package com.taskify.reactive.controller;
+
+import com.taskify.exception.ResourceNotFoundException;
+import com.taskify.reactive.repository.ReactiveTaskRepository;
+import com.taskify.task.dto.TaskFilterDTO;
+import com.taskify.task.model.Task;
+import com.taskify.task.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+public class ReactiveTaskController {
+
+    // Documentos pedidos al cursor de Mongo por adelantado; el resto se pide según consume el cliente
+    private static final int PREFETCH = 256;
+
+    private final ReactiveTaskRepository repository;
+
+    @GetMapping(produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<Task> list(Mono<Principal> principal, TaskFilterDTO filter) {
+        return principal.flatMapMany(user -> repository.streamFiltered(user.getName(), TaskService.toFilter(filter)))
+                .limitRate(PREFETCH);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Task> get(@PathVariable String id, Mono<Principal> principal) {
+        return principal.flatMap(user -> repository.findByIdAndUserId(id, user.getName()))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found with id: " + id)));
+    }
+}
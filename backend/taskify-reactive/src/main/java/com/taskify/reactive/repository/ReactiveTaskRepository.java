@@ -0,0 +1,12 @@
+package com.taskify.reactive.repository;
+
+import com.taskify.task.model.Task;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveTaskRepository extends ReactiveMongoRepository<Task, String>, ReactiveTaskRepositoryCustom {
+
+    Mono<Task> findByIdAndUserId(String id, String userId);
+}
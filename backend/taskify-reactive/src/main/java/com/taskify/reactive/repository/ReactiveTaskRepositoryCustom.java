@@ -0,0 +1,14 @@
+package com.taskify.reactive.repository;
+
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskFilter;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveTaskRepositoryCustom {
+
+    /**
+     * Todas las tareas del usuario que cumplen el filtro, ordenadas por
+     * (taskDate, _id) y leídas del cursor según la demanda del suscriptor.
+     */
+    Flux<Task> streamFiltered(String userId, TaskFilter filter);
+}
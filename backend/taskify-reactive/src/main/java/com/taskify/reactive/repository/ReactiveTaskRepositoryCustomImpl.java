@@ -0,0 +1,23 @@
+package com.taskify.reactive.repository;
+
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskCriteria;
+import com.taskify.task.repository.TaskFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class ReactiveTaskRepositoryCustomImpl implements ReactiveTaskRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Flux<Task> streamFiltered(String userId, TaskFilter filter) {
+        Query query = Query.query(TaskCriteria.of(userId, filter))
+                .with(Sort.by(Sort.Order.asc("taskDate"), Sort.Order.asc("id")));
+        return mongoTemplate.find(query, Task.class);
+    }
+}
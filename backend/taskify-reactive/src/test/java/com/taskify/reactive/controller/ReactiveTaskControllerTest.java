@@ -0,0 +1,89 @@
+package com.taskify.reactive.controller;
+
+import com.taskify.auth.jwt.JwtService;
+import com.taskify.reactive.repository.ReactiveTaskRepository;
+import com.taskify.task.model.Priority;
+import com.taskify.task.model.Task;
+import com.taskify.task.repository.TaskFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockUser;
+
+@WebFluxTest(ReactiveTaskController.class)
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveTaskRepository repository;
+
+    @MockBean
+    private JwtService jwtService;
+
+    private Task first;
+    private Task second;
+
+    @BeforeEach
+    void setUp() {
+        first = Task.builder().id("task-1").title("First").taskDate("2026-01-01").userId("test@example.com").build();
+        second = Task.builder().id("task-2").title("Second").taskDate("2026-01-02").userId("test@example.com").build();
+    }
+
+    @Test
+    void list_StreamsNdjson() {
+        TaskFilter filter = TaskFilter.builder().priority(Priority.HIGH).build();
+        when(repository.streamFiltered(eq("test@example.com"), eq(filter))).thenReturn(Flux.just(first, second));
+
+        Flux<Task> body = webTestClient.mutateWith(mockUser("test@example.com"))
+                .get().uri("/api/tasks?priority=high")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Task.class)
+                .getResponseBody();
+
+        StepVerifier.create(body)
+                .expectNextMatches(task -> task.getTitle().equals("First"))
+                .expectNextMatches(task -> task.getTitle().equals("Second"))
+                .verifyComplete();
+    }
+
+    @Test
+    void list_InvalidPriority_ReturnsBadRequest() {
+        webTestClient.mutateWith(mockUser("test@example.com"))
+                .get().uri("/api/tasks?priority=urgent")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void get_OtherUsersTask_ReturnsNotFound() {
+        when(repository.findByIdAndUserId("task-1", "test@example.com")).thenReturn(Mono.empty());
+
+        webTestClient.mutateWith(mockUser("test@example.com"))
+                .get().uri("/api/tasks/task-1")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void list_Unauthenticated_ReturnsUnauthorized() {
+        webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}